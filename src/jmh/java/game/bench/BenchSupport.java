@@ -0,0 +1,32 @@
+package game.bench;
+
+import game.GameEngine;
+import game.systems.SaveManager;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Shared setup for the benchmarks: a headless engine writing to a throwaway save file.
+ */
+final class BenchSupport {
+    private static boolean initialized;
+
+    private BenchSupport() {}
+
+    static synchronized GameEngine headlessEngine() {
+        GameEngine engine = GameEngine.getInstance();
+        if (!initialized) {
+            System.setProperty("java.awt.headless", "true");
+            try {
+                File saveFile = File.createTempFile("incremental_shooter_bench", ".dat");
+                saveFile.deleteOnExit();
+                engine.initializeHeadless(new SaveManager(saveFile.getPath()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            initialized = true;
+        }
+        return engine;
+    }
+}
@@ -0,0 +1,73 @@
+package game.bench;
+
+import game.GameEngine;
+import game.ecs.EnemyArchetype;
+import game.ecs.EnemyWorld;
+import game.entities.Player;
+import game.entities.ProjectilePool;
+import game.systems.CollisionManager;
+import game.systems.UpgradeManager;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * CollisionManager.checkCollisions at different bullet and enemy counts.
+ * Enemies are effectively immortal so the population stays constant; bullets are
+ * respawned at their original positions before every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+    @Param({"100", "1000"})
+    public int bullets;
+
+    @Param({"50", "500", "2000"})
+    public int enemies;
+
+    private GameEngine engine;
+    private CollisionManager collisionManager;
+    private Player player;
+    private EnemyWorld enemyWorld;
+    private ProjectilePool enemyProjectiles;
+    private double[] bulletX;
+    private double[] bulletY;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        engine = BenchSupport.headlessEngine();
+        collisionManager = new CollisionManager(engine);
+        // Player parked in the bottom corner, away from the enemy field
+        player = new Player(770, 570, new UpgradeManager());
+        enemyProjectiles = new ProjectilePool(16);
+
+        Random random = new Random(42);
+        enemyWorld = new EnemyWorld(enemies);
+        for (int i = 0; i < enemies; i++) {
+            enemyWorld.spawn(EnemyArchetype.BASIC, random.nextDouble() * 750, random.nextDouble() * 450, 1, 1e12);
+        }
+
+        bulletX = new double[bullets];
+        bulletY = new double[bullets];
+        for (int i = 0; i < bullets; i++) {
+            bulletX[i] = random.nextDouble() * 790;
+            bulletY[i] = random.nextDouble() * 500;
+        }
+    }
+
+    @Benchmark
+    public long checkCollisions() {
+        ProjectilePool pool = player.getProjectiles();
+        pool.clear();
+        for (int i = 0; i < bullets; i++) {
+            pool.spawn(bulletX[i], bulletY[i], 0, -400, 10, true, false);
+        }
+        collisionManager.checkCollisions(player, enemyWorld, enemyProjectiles);
+        engine.getGameEvents().clear();
+        return collisionManager.getPairsTested();
+    }
+}
@@ -0,0 +1,55 @@
+package game.bench;
+
+import game.ecs.EnemyArchetype;
+import game.ecs.EnemyWorld;
+import game.entities.Entity;
+import game.entities.Player;
+import game.systems.UpgradeManager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Narrow-phase AABB tests for overlapping and separated pairs: Entity.collidesWith
+ * between two entities, and EnemyWorld.overlaps between an enemy and an entity.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityBenchmark {
+    private Entity a;
+    private Entity overlapping;
+    private Entity separated;
+    private EnemyWorld enemies;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        a = new Player(100, 100, new UpgradeManager());
+        overlapping = new Player(110, 110, new UpgradeManager());
+        separated = new Player(400, 400, new UpgradeManager());
+        enemies = new EnemyWorld(16);
+        enemies.spawn(EnemyArchetype.BASIC, 100, 100, 1, 1.0);
+    }
+
+    @Benchmark
+    public boolean collidesOverlapping() {
+        return a.collidesWith(overlapping);
+    }
+
+    @Benchmark
+    public boolean collidesSeparated() {
+        return a.collidesWith(separated);
+    }
+
+    @Benchmark
+    public boolean enemyOverlapping() {
+        return enemies.overlaps(0, overlapping);
+    }
+
+    @Benchmark
+    public boolean enemySeparated() {
+        return enemies.overlaps(0, separated);
+    }
+}
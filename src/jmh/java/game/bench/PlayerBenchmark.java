@@ -0,0 +1,45 @@
+package game.bench;
+
+import game.GameEngine;
+import game.entities.Player;
+import game.systems.InputManager;
+import game.systems.UpgradeManager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * One Player.update tick (movement, shooting, bullet integration) at high
+ * BULLET_COUNT levels with fire rate maxed out so the player shoots often.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerBenchmark {
+    @Param({"0", "10", "40"})
+    public int bulletCountLevel;
+
+    private Player player;
+    private InputManager input;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        UpgradeManager upgrades = new UpgradeManager();
+        for (int i = 0; i < bulletCountLevel; i++) {
+            upgrades.incrementLevel(UpgradeManager.UpgradeType.BULLET_COUNT);
+        }
+        for (int i = 0; i < 30; i++) {
+            upgrades.incrementLevel(UpgradeManager.UpgradeType.FIRE_RATE);
+        }
+        player = new Player(400, 500, upgrades);
+        input = new InputManager();
+    }
+
+    @Benchmark
+    public int update() {
+        player.update(GameEngine.TICK_SECONDS, input);
+        return player.getProjectiles().size();
+    }
+}
@@ -0,0 +1,66 @@
+package game.bench;
+
+import game.data.GameData;
+import game.data.SaveCodec;
+import game.systems.UpgradeManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Save encode/decode cost: the SaveCodec binary format against the Java serialization
+ * format it replaced. File I/O is left out so only the format itself is compared.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SaveFormatBenchmark {
+    private GameData data;
+    private byte[] serialized;
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        UpgradeManager upgrades = new UpgradeManager();
+        for (UpgradeManager.UpgradeType type : UpgradeManager.UpgradeType.values()) {
+            upgrades.incrementLevel(type);
+        }
+        data = new GameData(4, upgrades, 15);
+        data.addCash(12345);
+        serialized = saveSerialized();
+        binary = saveBinary();
+    }
+
+    @Benchmark
+    public byte[] saveSerialized() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public GameData loadSerialized() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return (GameData) in.readObject();
+        }
+    }
+
+    @Benchmark
+    public byte[] saveBinary() {
+        return SaveCodec.encode(data);
+    }
+
+    @Benchmark
+    public GameData loadBinary() throws IOException {
+        return SaveCodec.decode(binary);
+    }
+}
@@ -0,0 +1,70 @@
+package game.bench;
+
+import game.GameEngine;
+import game.ecs.EnemyArchetype;
+import game.ecs.EnemyWorld;
+import game.entities.Player;
+import game.systems.UpgradeManager;
+import game.systems.WaveManager;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * One WaveManager.update tick over a mixed Basic/Mage/Boss population,
+ * with the enemy update forced serial or parallel.
+ * Enemies that drift off the bottom are wrapped back to the top so the
+ * population stays constant across iterations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WaveManagerBenchmark {
+    @Param({"100", "1000", "5000"})
+    public int enemies;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private WaveManager waveManager;
+    private Player player;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        BenchSupport.headlessEngine();
+        player = new Player(400, 550, new UpgradeManager());
+        waveManager = new WaveManager(1);
+        waveManager.setParallelThreshold(parallel ? 0 : Integer.MAX_VALUE);
+
+        Random random = new Random(42);
+        EnemyWorld world = waveManager.getEnemies();
+        for (int i = 0; i < enemies; i++) {
+            double x = random.nextDouble() * 750;
+            double y = random.nextDouble() * 500;
+            EnemyArchetype type;
+            if (i % 50 == 0) {
+                type = EnemyArchetype.BOSS;
+            } else if (i % 3 == 0) {
+                type = EnemyArchetype.MAGE;
+            } else {
+                type = EnemyArchetype.BASIC;
+            }
+            world.spawn(type, x, y, 10, 1.0);
+        }
+    }
+
+    @Benchmark
+    public int update() {
+        waveManager.update(GameEngine.TICK_SECONDS, player);
+        EnemyWorld world = waveManager.getEnemies();
+        for (int i = 0; i < world.size(); i++) {
+            if (world.getY(i) > 600) {
+                world.setPosition(i, world.getX(i), 0);
+            }
+        }
+        return waveManager.getEnemyProjectiles().size();
+    }
+}
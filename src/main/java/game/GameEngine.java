@@ -4,10 +4,12 @@ import game.entities.Player;
 import game.systems.*;
 import game.ui.GamePanel;
 import game.data.GameData;
+import game.data.RunRecording;
 import game.entities.DamageText;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Core game engine managing all game systems and state.
@@ -16,6 +18,19 @@ import java.util.Random;
 public class GameEngine {
     private static GameEngine instance;
     
+    // Fixed simulation rate (-Dgame.tickRate, 30-240 Hz) - update() is always stepped by TICK_SECONDS
+    public static final int TICK_RATE = Math.max(30, Math.min(240, Integer.getInteger("game.tickRate", 120)));
+    public static final double TICK_SECONDS = 1.0 / TICK_RATE;
+    
+    // Commands queued from the UI thread and applied at the start of the next tick
+    public static final int COMMAND_TOGGLE_PAUSE = 1;
+    public static final int COMMAND_SHOP_PURCHASE = 2;
+    public static final int COMMAND_CONTINUE = 3;
+    
+    // Salts so each subsystem gets its own stream from the run seed
+    private static final long PLAYER_SEED_SALT = 0x9E3779B97F4A7C15L;
+    private static final long SHAKE_SEED_SALT = 0xC2B2AE3D27D4EB4FL;
+    
     private Player player;
     private WaveManager waveManager;
     private UpgradeManager upgradeManager;
@@ -25,6 +40,9 @@ public class GameEngine {
     private SoundManager soundManager;
     private HitSoundPlayer hitSoundPlayer;
     private SaveManager saveManager;
+    private final FrameProfiler frameProfiler = new FrameProfiler();
+    private final RenderSnapshotBuffer renderSnapshots = new RenderSnapshotBuffer();
+    private final GameEvents gameEvents = new GameEvents();
     
     private GameState gameState;
     private int currentDifficulty;
@@ -38,6 +56,14 @@ public class GameEngine {
     private double shakeY = 0.0;
     private final Random rnd = new Random();
     
+    // --- Determinism / replay ---
+    private final Random seedSource = new Random();
+    private final ConcurrentLinkedQueue<Integer> commands = new ConcurrentLinkedQueue<>();
+    private long runSeed;
+    private RunRecording recording;     // Run in progress, null outside a run
+    private RunRecording lastRecording; // Most recently finished run
+    private String recordingFile;       // Where finished runs are written, null to keep in memory only
+    
     private GameEngine() {
         currentDifficulty = 1;
         isPaused = false;
@@ -55,11 +81,29 @@ public class GameEngine {
      * Initialize all game systems and load saved data.
      */
     public void initialize(GamePanel panel) {
+        recordingFile = RunRecording.DEFAULT_FILE;
+        initializeSystems(new SoundManager(),
+            new HitSoundPlayer("src/main/resources/sounds",
+                new String[]{"hit", "hit_critical", "player_damaged"}),
+            new SaveManager());
+    }
+    
+    /**
+     * Initialize for headless simulation: no window, no audio files, and progress
+     * written to the given save manager instead of the player's save.
+     */
+    public void initializeHeadless(SaveManager saveManager) {
+        initializeSystems(new SoundManager(false),
+            new HitSoundPlayer("src/main/resources/sounds", new String[0]),
+            saveManager);
+    }
+    
+    private void initializeSystems(SoundManager soundManager, HitSoundPlayer hitSoundPlayer,
+                                   SaveManager saveManager) {
         // Initialize managers
-        soundManager = new SoundManager();
-        hitSoundPlayer = new HitSoundPlayer("src/main/resources/sounds",
-            new String[]{"hit", "hit_critical", "player_damaged"});
-        saveManager = new SaveManager();
+        this.soundManager = soundManager;
+        this.hitSoundPlayer = hitSoundPlayer;
+        this.saveManager = saveManager;
         inputManager = new InputManager();
         collisionManager = new CollisionManager(this);
         upgradeManager = new UpgradeManager();
@@ -77,7 +121,7 @@ public class GameEngine {
     }
     
     public void spawnDamageText(double x, double y, int value, boolean isCrit) {
-        damageTexts.add(new DamageText(x, y, value, isCrit));
+        damageTexts.add(new DamageText(x, y, String.valueOf(value), isCrit));
     }
 
     /**
@@ -106,41 +150,166 @@ public class GameEngine {
     }
     
     /**
-     * Start a new game at specified difficulty.
+     * Start a new game at specified difficulty with a fresh random seed.
      */
     public void startGame(int difficulty) {
+        startGame(difficulty, seedSource.nextLong());
+    }
+    
+    /**
+     * Start a new game whose randomness (spawns, crits, shake) all derives from seed.
+     * The run is recorded so it can be replayed with ReplayPlayer.
+     */
+    public void startGame(int difficulty, long seed) {
         this.currentDifficulty = difficulty;
+        this.runSeed = seed;
         upgradeManager.resetTempUpgrades(); // Reset temporary upgrades
-        waveManager = new WaveManager(difficulty);
+        waveManager = new WaveManager(difficulty, seed);
         player.fullReset();
+        player.reseed(seed ^ PLAYER_SEED_SALT);
+        rnd.setSeed(seed ^ SHAKE_SEED_SALT);
+        screenShakeTimer = 0;
+        shakeX = 0;
+        shakeY = 0;
         damageTexts.clear();
+        gameEvents.clear();
+        commands.clear();
+        recording = new RunRecording(seed, difficulty, TICK_RATE, upgradeManager);
         gameState = GameState.PLAYING;
         isPaused = false;
     }
     
     /**
-     * Main game update loop - called every frame.
+     * Queue a COMMAND_* from the UI thread; it runs on the game thread before the next tick.
+     */
+    public void submitCommand(int type, int argument) {
+        commands.add((type << 8) | (argument & 0xFF));
+    }
+    
+    private void applyCommands() {
+        Integer command;
+        while ((command = commands.poll()) != null) {
+            int argument = command & 0xFF;
+            switch (command >> 8) {
+                case COMMAND_TOGGLE_PAUSE:
+                    if (gameState == GameState.PLAYING) {
+                        togglePause();
+                    }
+                    break;
+                case COMMAND_SHOP_PURCHASE:
+                    purchaseShopUpgrade(argument);
+                    break;
+                case COMMAND_CONTINUE:
+                    continueToNextWave();
+                    break;
+            }
+        }
+    }
+    
+    /**
+     * Buy one level of a temporary upgrade with coins while in the shop.
+     * @param upgradeIndex shop slot, 0-7 in UpgradeType order
+     */
+    public boolean purchaseShopUpgrade(int upgradeIndex) {
+        UpgradeManager.UpgradeType[] types = UpgradeManager.UpgradeType.values();
+        if (gameState != GameState.SHOP || upgradeIndex < 0 || upgradeIndex >= types.length) {
+            return false;
+        }
+        
+        UpgradeManager.UpgradeType type = types[upgradeIndex];
+        int currentTempLevel = upgradeManager.getTempLevel(type);
+        int cost = upgradeManager.getTempUpgradeCost(type, currentTempLevel);
+        
+        if (player.spendCoins(cost)) {
+            upgradeManager.purchaseTempUpgrade(type);
+            // Apply the new upgrade values, keeping projectiles; a purchase still fully heals
+            player.refreshStats();
+            player.healToFull();
+            soundManager.playSound("click_button");
+            if (recording != null) {
+                recording.recordCommand(COMMAND_SHOP_PURCHASE, upgradeIndex);
+            }
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Close the recording of the current run and write it out.
+     */
+    private void finishRecording() {
+        if (recording == null) {
+            return;
+        }
+        recording.finish(waveManager.getCurrentWave(), player.getCoins(), player.getHealth());
+        lastRecording = recording;
+        recording = null;
+        if (recordingFile != null) {
+            try {
+                lastRecording.write(recordingFile);
+            } catch (java.io.IOException e) {
+                System.err.println("Failed to write run recording: " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Main game update loop - called once per fixed simulation tick.
      */
     public void update(double deltaTime) {
-        if (isPaused || gameState != GameState.PLAYING) {
+        inputManager.beginTick();
+        update(deltaTime, inputManager.sampleKeys());
+    }
+    
+    /**
+     * Run one tick with the given InputManager.KEY_* mask (live or from a recording).
+     */
+    public void update(double deltaTime, int keys) {
+        applyCommands();
+        if (gameState != GameState.PLAYING) {
+            return;
+        }
+        if (isPaused) {
+            renderSnapshots.publish(this); // Keep the pause overlay in sync
             return;
         }
         
+        long tickStart = System.nanoTime();
+        inputManager.setTickKeys(keys);
+        if (recording != null) {
+            recording.recordTick(keys);
+        }
+        
         // Update player
         player.update(deltaTime, inputManager);
+        long mark = System.nanoTime();
+        frameProfiler.record(FrameProfiler.Phase.PLAYER, mark - tickStart);
         
         // Update wave system
         waveManager.update(deltaTime, player);
+        long now = System.nanoTime();
+        frameProfiler.record(FrameProfiler.Phase.WAVES, now - mark);
+        mark = now;
         
         // Check collisions
         collisionManager.checkCollisions(player, waveManager.getEnemies(), 
                                         waveManager.getEnemyProjectiles());
+        now = System.nanoTime();
+        frameProfiler.record(FrameProfiler.Phase.COLLISIONS, now - mark);
+        mark = now;
+        
+        // Apply what the collisions produced
+        dispatchEvents();
+        now = System.nanoTime();
+        frameProfiler.record(FrameProfiler.Phase.EVENTS, now - mark);
+        mark = now;
         
         // Update damage texts
         damageTexts.removeIf(d -> !d.isAlive());
         for (DamageText d : damageTexts) {
             d.update(deltaTime);
         }
+        frameProfiler.record(FrameProfiler.Phase.DAMAGE_TEXTS, System.nanoTime() - mark);
 
         // Update screen shake
         if (screenShakeTimer > 0) {
@@ -165,6 +334,46 @@ public class GameEngine {
         if (player.isDead()) {
             handleGameOver();
         }
+        
+        // Hand the finished tick to the renderer
+        renderSnapshots.publish(this);
+        
+        frameProfiler.record(FrameProfiler.Phase.TICK, System.nanoTime() - tickStart);
+    }
+    
+    /**
+     * Consume this tick's GameEvents in one pass: a damage number per hit, coins summed
+     * into a single addCoins, one voice per sound, and at most one screen shake however
+     * many crits landed.
+     */
+    private void dispatchEvents() {
+        int coins = 0;
+        for (int i = 0; i < gameEvents.size(); i++) {
+            int type = gameEvents.getType(i);
+            switch (type) {
+                case GameEvents.HIT:
+                case GameEvents.CRIT_HIT:
+                    boolean isCrit = type == GameEvents.CRIT_HIT;
+                    soundManager.trigger(isCrit ? "hit_critical" : "hit");
+                    spawnDamageText(gameEvents.getX(i), gameEvents.getY(i),
+                                    (int) Math.round(gameEvents.getValue(i)), isCrit);
+                    break;
+                case GameEvents.ENEMY_KILLED:
+                    coins += (int) gameEvents.getValue(i);
+                    break;
+                case GameEvents.PLAYER_DAMAGED:
+                    soundManager.trigger("player_damaged");
+                    break;
+            }
+        }
+        soundManager.flush();
+        if (coins > 0) {
+            player.addCoins(coins);
+        }
+        if (gameEvents.count(GameEvents.CRIT_HIT) > 0) {
+            triggerScreenShake(0.20, 8.0);
+        }
+        gameEvents.clear();
     }
     
     private void handleWaveComplete() {
@@ -197,6 +406,9 @@ public class GameEngine {
         if (gameState == GameState.SHOP && waveManager != null) {
             waveManager.startNextWave();
             gameState = GameState.PLAYING;
+            if (recording != null) {
+                recording.recordCommand(COMMAND_CONTINUE, 0);
+            }
         }
     }
     
@@ -228,6 +440,7 @@ public class GameEngine {
         
         saveManager.saveGame(saveData);
         
+        finishRecording();
         gameState = GameState.WIN;
         soundManager.playSound("win_difficulty");
     }
@@ -256,6 +469,7 @@ public class GameEngine {
             saveManager.saveGame(saveData);
         }
         
+        finishRecording();
         gameState = GameState.GAME_OVER;
         soundManager.playSound("wave_lose");
     }
@@ -285,6 +499,8 @@ public class GameEngine {
             }
         }
         
+        finishRecording();
+        
         // Return to menu
         isPaused = false;
         gameState = GameState.MENU;
@@ -329,6 +545,11 @@ public class GameEngine {
     public HitSoundPlayer getHitSoundPlayer() { return hitSoundPlayer; }
     public SaveManager getSaveManager() { return saveManager; }
     public InputManager getInputManager() { return inputManager; }
+    public FrameProfiler getFrameProfiler() { return frameProfiler; }
+    public RenderSnapshotBuffer getRenderSnapshots() { return renderSnapshots; }
+    public GameEvents getGameEvents() { return gameEvents; }
+    public long getRunSeed() { return runSeed; }
+    public RunRecording getLastRecording() { return lastRecording; }
     public GameState getGameState() { return gameState; }
     public boolean isPaused() { return isPaused; }
     public int getCurrentDifficulty() { return currentDifficulty; }
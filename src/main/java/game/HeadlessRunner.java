@@ -0,0 +1,122 @@
+package game;
+
+import game.systems.FrameProfiler;
+import game.systems.InputManager;
+import game.systems.SaveManager;
+import java.awt.event.KeyEvent;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Headless entry point that runs the game logic without Swing or audio.
+ * Steps GameEngine.update with fixed ticks as fast as the CPU allows,
+ * skipping the shop and restarting after game over, and reports ticks per second.
+ *
+ * Usage: java game.HeadlessRunner [difficulty] [seconds] [idle|strafe]
+ * Defaults: Endless mode (999), 30 wall-clock seconds, idle input.
+ */
+public class HeadlessRunner {
+    private static final long REPORT_INTERVAL = 1000000000L; // nanoseconds
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+
+        int difficulty = args.length > 0 ? Integer.parseInt(args[0]) : 999;
+        double seconds = args.length > 1 ? Double.parseDouble(args[1]) : 30.0;
+        boolean strafe = args.length > 2 && args[2].equalsIgnoreCase("strafe");
+
+        // Never touch the player's real save file
+        File saveFile = File.createTempFile("incremental_shooter_headless", ".dat");
+        saveFile.deleteOnExit();
+
+        GameEngine engine = GameEngine.getInstance();
+        engine.initializeHeadless(new SaveManager(saveFile.getPath()));
+        engine.startGame(difficulty);
+
+        InputManager input = engine.getInputManager();
+        long start = System.nanoTime();
+        long end = start + (long) (seconds * 1000000000L);
+        long lastReport = start;
+        long ticks = 0;
+        long ticksAtReport = 0;
+        int runs = 1;
+        int bestWave = 1;
+
+        while (System.nanoTime() < end) {
+            if (strafe) {
+                applyStrafe(input, ticks);
+            }
+            engine.update(GameEngine.TICK_SECONDS);
+            ticks++;
+
+            switch (engine.getGameState()) {
+                case SHOP:
+                    engine.continueToNextWave();
+                    break;
+                case GAME_OVER:
+                case WIN:
+                    bestWave = Math.max(bestWave, engine.getWaveManager().getCurrentWave());
+                    engine.startGame(difficulty);
+                    runs++;
+                    break;
+                default:
+                    break;
+            }
+            if (engine.getGameState() == GameEngine.GameState.PLAYING) {
+                bestWave = Math.max(bestWave, engine.getWaveManager().getCurrentWave());
+            }
+
+            long now = System.nanoTime();
+            if (now - lastReport >= REPORT_INTERVAL) {
+                double tps = (ticks - ticksAtReport) * 1e9 / (now - lastReport);
+                System.out.printf("[Headless] %,d ticks/s (%.0fx real time), wave %d, enemies %d%n",
+                    (long) tps, tps / GameEngine.TICK_RATE,
+                    engine.getWaveManager().getCurrentWave(),
+                    engine.getWaveManager().getEnemies().size());
+                lastReport = now;
+                ticksAtReport = ticks;
+            }
+        }
+
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        double simulated = ticks * GameEngine.TICK_SECONDS;
+        System.out.println("=== Headless run complete ===");
+        System.out.printf("Difficulty:      %d%n", difficulty);
+        System.out.printf("Ticks:           %,d%n", ticks);
+        System.out.printf("Simulated time:  %.1f s%n", simulated);
+        System.out.printf("Wall time:       %.1f s%n", elapsed);
+        System.out.printf("Ticks/second:    %,.0f (%.0fx real time)%n", ticks / elapsed, simulated / elapsed);
+        System.out.printf("Runs:            %d (best wave %d)%n", runs, bestWave);
+        printPhaseTimings(engine.getFrameProfiler());
+
+        engine.getHitSoundPlayer().shutdown();
+    }
+
+    /**
+     * Simulation phase percentiles over the most recent ticks.
+     */
+    static void printPhaseTimings(FrameProfiler profiler) {
+        profiler.refresh();
+        System.out.println("Phase (us)          p50       p99       max");
+        for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+            if (profiler.getSampleCount(phase) == 0) continue;
+            System.out.printf("%-16s %8.1f  %8.1f  %8.1f%n", phase.getLabel(),
+                profiler.getP50(phase) / 1000.0, profiler.getP99(phase) / 1000.0,
+                profiler.getMax(phase) / 1000.0);
+        }
+    }
+
+    /**
+     * Scripted input: sweep left and right across the arena, one second each way.
+     */
+    private static void applyStrafe(InputManager input, long tick) {
+        boolean left = (tick / GameEngine.TICK_RATE) % 2 == 0;
+        if (left) {
+            input.release(KeyEvent.VK_D);
+            input.press(KeyEvent.VK_A);
+        } else {
+            input.release(KeyEvent.VK_A);
+            input.press(KeyEvent.VK_D);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package game;
+
+import game.data.RunRecording;
+import game.systems.SaveManager;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Headless replay of a recorded run.
+ * Re-drives GameEngine.update with the recorded seed, upgrades, key masks and shop
+ * commands as fast as possible, timing every tick, then reports per-wave tick times,
+ * the slowest ticks and phase percentiles, and checks the run ended the same way.
+ *
+ * Usage: java game.ReplayPlayer [recording]
+ * Default recording: ~/.incremental_shooter_last_run.rec (written after every run).
+ * A run recorded at another -Dgame.tickRate must be replayed with the same setting.
+ */
+public class ReplayPlayer {
+    private static final int SLOWEST_TICKS = 5;
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+
+        String path = args.length > 0 ? args[0] : RunRecording.DEFAULT_FILE;
+        RunRecording recording = RunRecording.read(path);
+        if (recording.getTickRate() != GameEngine.TICK_RATE) {
+            System.err.printf("%s was recorded at %d Hz; replay it with -Dgame.tickRate=%d%n",
+                path, recording.getTickRate(), recording.getTickRate());
+            return;
+        }
+
+        File saveFile = File.createTempFile("incremental_shooter_replay", ".dat");
+        saveFile.deleteOnExit();
+
+        GameEngine engine = GameEngine.getInstance();
+        engine.initializeHeadless(new SaveManager(saveFile.getPath()));
+        engine.getUpgradeManager().loadUpgrades(recording.toGameData());
+        engine.startGame(recording.getDifficulty(), recording.getSeed());
+
+        System.out.printf("Replaying %s: difficulty %d, seed %d, %,d ticks, %d commands%n",
+            path, recording.getDifficulty(), recording.getSeed(),
+            recording.getTickCount(), recording.getCommandCount());
+
+        int maxWave = 64;
+        long[] waveTicks = new long[maxWave];
+        long[] waveNanos = new long[maxWave];
+        long[] waveMax = new long[maxWave];
+        long[] slowNanos = new long[SLOWEST_TICKS];
+        int[] slowTick = new int[SLOWEST_TICKS];
+        int[] slowWave = new int[SLOWEST_TICKS];
+
+        long start = System.nanoTime();
+        int command = 0;
+        int ticks = recording.getTickCount();
+        int tick = 0;
+        for (; tick < ticks; tick++) {
+            // Shop purchases and wave continues go in before the tick they preceded
+            while (command < recording.getCommandCount() && recording.getCommandTick(command) == tick) {
+                engine.submitCommand(recording.getCommandType(command), recording.getCommandArgument(command));
+                command++;
+            }
+
+            int wave = engine.getWaveManager().getCurrentWave();
+            long tickStart = System.nanoTime();
+            engine.update(GameEngine.TICK_SECONDS, recording.getKeys(tick));
+            long nanos = System.nanoTime() - tickStart;
+
+            if (wave >= maxWave) {
+                maxWave *= 2;
+                waveTicks = Arrays.copyOf(waveTicks, maxWave);
+                waveNanos = Arrays.copyOf(waveNanos, maxWave);
+                waveMax = Arrays.copyOf(waveMax, maxWave);
+            }
+            waveTicks[wave]++;
+            waveNanos[wave] += nanos;
+            waveMax[wave] = Math.max(waveMax[wave], nanos);
+            insertSlowest(slowNanos, slowTick, slowWave, nanos, tick, wave);
+
+            GameEngine.GameState state = engine.getGameState();
+            if (state != GameEngine.GameState.PLAYING && state != GameEngine.GameState.SHOP) {
+                tick++;
+                break;
+            }
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        System.out.println("=== Replay complete ===");
+        System.out.printf("Ticks replayed:  %,d of %,d (%.1f s of game time in %.1f s)%n",
+            tick, ticks, tick * GameEngine.TICK_SECONDS, elapsed);
+        System.out.println("Wave   ticks    mean us     max us");
+        for (int w = 0; w < maxWave; w++) {
+            if (waveTicks[w] == 0) continue;
+            System.out.printf("%4d  %6d  %9.1f  %9.1f%n", w, waveTicks[w],
+                waveNanos[w] / 1000.0 / waveTicks[w], waveMax[w] / 1000.0);
+        }
+        System.out.println("Slowest ticks:");
+        for (int i = 0; i < SLOWEST_TICKS && slowNanos[i] > 0; i++) {
+            System.out.printf("  tick %,d (wave %d): %.1f us%n", slowTick[i], slowWave[i], slowNanos[i] / 1000.0);
+        }
+        HeadlessRunner.printPhaseTimings(engine.getFrameProfiler());
+
+        // The run should end exactly where the recording did
+        boolean matches = tick == ticks
+            && engine.getWaveManager().getCurrentWave() == recording.getEndWave()
+            && engine.getPlayer().getCoins() == recording.getEndCoins()
+            && engine.getPlayer().getHealth() == recording.getEndHealth();
+        if (matches) {
+            System.out.println("Replay matches the recorded run.");
+        } else {
+            System.out.printf("Replay DIVERGED: wave %d coins %d health %.1f, recorded wave %d coins %d health %.1f%n",
+                engine.getWaveManager().getCurrentWave(), engine.getPlayer().getCoins(), engine.getPlayer().getHealth(),
+                recording.getEndWave(), recording.getEndCoins(), recording.getEndHealth());
+        }
+
+        engine.getHitSoundPlayer().shutdown();
+    }
+
+    /**
+     * Keep the N slowest ticks, slowest first.
+     */
+    private static void insertSlowest(long[] nanos, int[] ticks, int[] waves, long value, int tick, int wave) {
+        int i = nanos.length - 1;
+        if (value <= nanos[i]) return;
+        while (i > 0 && nanos[i - 1] < value) {
+            nanos[i] = nanos[i - 1];
+            ticks[i] = ticks[i - 1];
+            waves[i] = waves[i - 1];
+            i--;
+        }
+        nanos[i] = value;
+        ticks[i] = tick;
+        waves[i] = wave;
+    }
+}
@@ -0,0 +1,160 @@
+package game;
+
+import game.systems.RenderSnapshot;
+import game.systems.SaveManager;
+import game.systems.WaveManager;
+import game.ui.GameUI;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Endless-mode stress scenario: holds the enemy and enemy-bullet population at a series
+ * of targets and measures sustained tick and render times at each, through the real
+ * WaveManager, CollisionManager and GameUI renderer (drawn offscreen).
+ * Prints one CSV row per entity count so the scaling curve can be tracked across releases.
+ *
+ * Usage: java game.StressTest [enemy counts] [bullets per enemy] [seconds per step] [csv file]
+ * Defaults: 250,500,1000,2000,4000,8000   1.0   3   (stdout only)
+ */
+public class StressTest {
+    private static final long SEED = 42;
+    private static final double WARMUP_SECONDS = 1.0;
+    private static final int TICKS_PER_FRAME = Math.max(1, GameEngine.TICK_RATE / 60);
+    private static final double FRAME_BUDGET_US = 1e6 / 60;
+
+    private static final String HEADER = "enemies,enemy_projectiles,avg_enemies,avg_enemy_projectiles,"
+        + "avg_player_projectiles,tick_mean_us,tick_p50_us,tick_p99_us,tick_max_us,"
+        + "render_mean_us,render_p99_us,frame_budget_pct";
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+
+        int[] counts = args.length > 0
+            ? Arrays.stream(args[0].split(",")).mapToInt(Integer::parseInt).toArray()
+            : new int[]{250, 500, 1000, 2000, 4000, 8000};
+        double bulletsPerEnemy = args.length > 1 ? Double.parseDouble(args[1]) : 1.0;
+        double seconds = args.length > 2 ? Double.parseDouble(args[2]) : 3.0;
+        String csvFile = args.length > 3 ? args[3] : null;
+
+        File saveFile = File.createTempFile("incremental_shooter_stress", ".dat");
+        saveFile.deleteOnExit();
+        GameEngine engine = GameEngine.getInstance();
+        engine.initializeHeadless(new SaveManager(saveFile.getPath()));
+
+        BufferedImage frame = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        GameUI gameUI = new GameUI();
+
+        StringBuilder csv = new StringBuilder(HEADER).append('\n');
+        System.out.println(HEADER);
+        for (int enemies : counts) {
+            int projectiles = (int) (enemies * bulletsPerEnemy);
+            String row = runStep(engine, gameUI, frame, enemies, projectiles, seconds);
+            System.out.println(row);
+            csv.append(row).append('\n');
+        }
+
+        if (csvFile != null) {
+            try (PrintWriter out = new PrintWriter(csvFile)) {
+                out.print(csv);
+            }
+            System.out.println("Wrote " + csvFile);
+        }
+        engine.getHitSoundPlayer().shutdown();
+    }
+
+    /**
+     * Hold one population target, warm up, then time ticks and offscreen frames.
+     * @return the CSV row for this step
+     */
+    private static String runStep(GameEngine engine, GameUI gameUI, BufferedImage frame,
+                                  int enemies, int projectiles, double seconds) {
+        engine.startGame(999, SEED);
+        engine.getWaveManager().enableStressMode(enemies, projectiles);
+        engine.getPlayer().setGodMode(true);
+
+        long warmupEnd = System.nanoTime() + (long) (WARMUP_SECONDS * 1e9);
+        while (System.nanoTime() < warmupEnd) {
+            engine.update(GameEngine.TICK_SECONDS);
+        }
+
+        long[] tickNanos = new long[1024];
+        long[] renderNanos = new long[256];
+        int ticks = 0;
+        int frames = 0;
+        long enemySum = 0;
+        long enemyBulletSum = 0;
+        long playerBulletSum = 0;
+
+        long end = System.nanoTime() + (long) (seconds * 1e9);
+        while (System.nanoTime() < end) {
+            long start = System.nanoTime();
+            engine.update(GameEngine.TICK_SECONDS);
+            long tickTime = System.nanoTime() - start;
+            if (ticks == tickNanos.length) {
+                tickNanos = Arrays.copyOf(tickNanos, ticks * 2);
+            }
+            tickNanos[ticks++] = tickTime;
+
+            WaveManager waves = engine.getWaveManager();
+            enemySum += waves.getEnemies().size();
+            enemyBulletSum += waves.getEnemyProjectiles().size();
+            playerBulletSum += engine.getPlayer().getProjectiles().size();
+
+            // Render at 60 FPS relative to the simulation, like the game loop does
+            if (ticks % TICKS_PER_FRAME == 0) {
+                start = System.nanoTime();
+                renderFrame(engine, gameUI, frame);
+                if (frames == renderNanos.length) {
+                    renderNanos = Arrays.copyOf(renderNanos, frames * 2);
+                }
+                renderNanos[frames++] = System.nanoTime() - start;
+            }
+        }
+
+        Arrays.sort(tickNanos, 0, ticks);
+        Arrays.sort(renderNanos, 0, frames);
+        double tickMean = mean(tickNanos, ticks) / 1000.0;
+        double renderMean = mean(renderNanos, frames) / 1000.0;
+        double budget = (tickMean * GameEngine.TICK_RATE / 60.0 + renderMean) / FRAME_BUDGET_US * 100;
+
+        return String.format(Locale.ROOT,
+            "%d,%d,%.0f,%.0f,%.0f,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f",
+            enemies, projectiles,
+            (double) enemySum / ticks, (double) enemyBulletSum / ticks, (double) playerBulletSum / ticks,
+            tickMean, percentile(tickNanos, ticks, 0.50) / 1000.0,
+            percentile(tickNanos, ticks, 0.99) / 1000.0, tickNanos[ticks - 1] / 1000.0,
+            renderMean, percentile(renderNanos, frames, 0.99) / 1000.0, budget);
+    }
+
+    private static void renderFrame(GameEngine engine, GameUI gameUI, BufferedImage frame) {
+        Graphics2D g2d = frame.createGraphics();
+        try {
+            g2d.setColor(Color.BLACK);
+            g2d.fillRect(0, 0, frame.getWidth(), frame.getHeight());
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            RenderSnapshot snapshot = engine.getRenderSnapshots().acquire();
+            gameUI.render(g2d, snapshot, 1.0);
+            gameUI.renderDamageTexts(g2d, snapshot);
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    private static double mean(long[] values, int n) {
+        if (n == 0) return 0;
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += values[i];
+        }
+        return (double) sum / n;
+    }
+
+    private static long percentile(long[] sorted, int n, double p) {
+        return n == 0 ? 0 : sorted[(int) ((n - 1) * p)];
+    }
+}
@@ -0,0 +1,83 @@
+package game.data;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Game balance values read once from balance.properties on the classpath, or from the
+ * file named by -Dgame.balanceFile so designers can tune a build without recompiling.
+ * Every lookup takes the built-in value as a fallback, used when the file or the key
+ * is missing or the value does not parse (or, for the ranged lookups, is out of range).
+ */
+final class Balance {
+    private static final String RESOURCE = "/balance.properties";
+    private static final Properties PROPERTIES = load();
+
+    private Balance() {}
+
+    private static Properties load() {
+        Properties props = new Properties();
+        String file = System.getProperty("game.balanceFile");
+        try (InputStream in = file != null ? new FileInputStream(file)
+                                           : Balance.class.getResourceAsStream(RESOURCE)) {
+            if (in != null) {
+                props.load(in);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to load balance file, using defaults: " + e.getMessage());
+        }
+        return props;
+    }
+
+    static String getString(String key, String fallback) {
+        return PROPERTIES.getProperty(key, fallback).trim();
+    }
+
+    static double getDouble(String key, double fallback) {
+        String value = PROPERTIES.getProperty(key);
+        if (value == null) return fallback;
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid balance value " + key + "=" + value + ", using " + fallback);
+            return fallback;
+        }
+    }
+
+    /**
+     * As getDouble, but a value outside [min, max] is also rejected in favour of the fallback.
+     */
+    static double getDouble(String key, double fallback, double min, double max) {
+        double value = getDouble(key, fallback);
+        if (value < min || value > max) {
+            System.err.println("Out of range balance value " + key + "=" + value + ", using " + fallback);
+            return fallback;
+        }
+        return value;
+    }
+
+    static int getInt(String key, int fallback) {
+        String value = PROPERTIES.getProperty(key);
+        if (value == null) return fallback;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid balance value " + key + "=" + value + ", using " + fallback);
+            return fallback;
+        }
+    }
+
+    /**
+     * As getInt, but a value below min is also rejected in favour of the fallback.
+     */
+    static int getInt(String key, int fallback, int min) {
+        int value = getInt(key, fallback);
+        if (value < min) {
+            System.err.println("Out of range balance value " + key + "=" + value + ", using " + fallback);
+            return fallback;
+        }
+        return value;
+    }
+}
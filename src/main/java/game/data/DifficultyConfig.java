@@ -2,18 +2,25 @@ package game.data;
 
 /**
  * Configurable difficulty settings for easy developer adjustment.
- * Each difficulty has unique scaling for HP, coins, cash, and enemy types.
+ * Each difficulty has unique scaling for HP, coins, cash, and enemy types,
+ * plus per-wave tables of enemy counts and spawn intervals.
+ *
+ * Values come from balance.properties (difficulty.N.*, difficulty.endless.*, wave.*),
+ * falling back to the configuration zone below. Configs are built once and shared;
+ * they never change after loading.
  */
-public class DifficultyConfig {
-    private int difficultyLevel;
-    private String name;
-    private double enemyHPMultiplier;
-    private double coinsMultiplier;
-    private double cashMultiplier;
-    private String specialEnemies;
+public final class DifficultyConfig {
+    private final int difficultyLevel;
+    private final String name;
+    private final double enemyHPMultiplier;
+    private final double coinsMultiplier;
+    private final double cashMultiplier;
+    private final String specialEnemies;
+    private final WaveTable enemiesPerWave;
+    private final WaveTable spawnIntervals;
     
     // === DEVELOPER CONFIGURATION ZONE ===
-    // Adjust these arrays to change difficulty scaling for the entire game
+    // Built-in defaults; balance.properties overrides any of them
     
     private static final String[] DIFFICULTY_NAMES = {
         "Easy",
@@ -68,37 +75,104 @@ public class DifficultyConfig {
     private static final double ENDLESS_CASH_MULTIPLIER = 3.0;  // 300% cash
     private static final String ENDLESS_SPECIAL = "Infinite Waves";
     
+    // === WAVE CONFIGURATION ===
+    // Out-of-range values (bossEvery < 1, non-positive intervals, mage chance outside [0,1])
+    // fall back to these defaults like unparsable ones
+    private static final int BOSS_EVERY = Balance.getInt("wave.bossEvery", 5, 1);       // Boss wave every N waves
+    private static final int BOSS_COUNT = Balance.getInt("wave.boss.count", 1);      // Just boss
+    private static final double BOSS_SPAWN_INTERVAL = Balance.getDouble("wave.boss.spawnInterval", 0.5, Double.MIN_VALUE, Double.MAX_VALUE);
+    // Normal waves: base + perWave * wave + perDifficulty * difficulty enemies
+    private static final double ENEMIES_BASE = Balance.getDouble("wave.enemies.base", 5);
+    private static final double ENEMIES_PER_WAVE = Balance.getDouble("wave.enemies.perWave", 2);
+    private static final double ENEMIES_PER_DIFFICULTY = Balance.getDouble("wave.enemies.perDifficulty", 3);
+    // Spawn interval base / (1 + perDifficulty * difficulty): faster spawns on higher difficulty
+    private static final double SPAWN_INTERVAL_BASE = Balance.getDouble("wave.spawnInterval.base", 1.5, Double.MIN_VALUE, Double.MAX_VALUE);
+    private static final double SPAWN_INTERVAL_PER_DIFFICULTY = Balance.getDouble("wave.spawnInterval.perDifficulty", 0.2, 0, Double.MAX_VALUE);
+    private static final int MAGE_FROM_WAVE = Balance.getInt("wave.mage.fromWave", 7);
+    private static final double MAGE_CHANCE = Balance.getDouble("wave.mage.chance", 0.3, 0, 1);
+    // Enemies per spawn burst (1 = one at a time) and the gap between them in the row
+    private static final int BURST_SIZE = Balance.getInt("wave.burst.size", 1, 1);
+    private static final double BURST_SPACING = Balance.getDouble("wave.burst.spacing", 40);
+    
     // === END CONFIGURATION ZONE ===
     
+    private static final int ENDLESS_LEVEL = 999;
+    private static final DifficultyConfig[] CONFIGS = new DifficultyConfig[DIFFICULTY_NAMES.length];
+    private static final DifficultyConfig ENDLESS;
+    
+    static {
+        for (int i = 0; i < CONFIGS.length; i++) {
+            String prefix = "difficulty." + (i + 1) + ".";
+            CONFIGS[i] = new DifficultyConfig(i + 1,
+                Balance.getString(prefix + "name", DIFFICULTY_NAMES[i]),
+                Balance.getDouble(prefix + "hpMultiplier", HP_MULTIPLIERS[i]),
+                Balance.getDouble(prefix + "coinsMultiplier", COINS_MULTIPLIERS[i]),
+                Balance.getDouble(prefix + "cashMultiplier", CASH_MULTIPLIERS[i]),
+                Balance.getString(prefix + "specialEnemies", SPECIAL_ENEMIES[i]));
+        }
+        ENDLESS = new DifficultyConfig(ENDLESS_LEVEL,
+            Balance.getString("difficulty.endless.name", ENDLESS_NAME),
+            Balance.getDouble("difficulty.endless.hpMultiplier", ENDLESS_HP_MULTIPLIER),
+            Balance.getDouble("difficulty.endless.coinsMultiplier", ENDLESS_COINS_MULTIPLIER),
+            Balance.getDouble("difficulty.endless.cashMultiplier", ENDLESS_CASH_MULTIPLIER),
+            Balance.getString("difficulty.endless.specialEnemies", ENDLESS_SPECIAL));
+    }
+    
+    private DifficultyConfig(int level, String name, double hpMultiplier, double coinsMultiplier,
+                             double cashMultiplier, String specialEnemies) {
+        this.difficultyLevel = level;
+        this.name = name;
+        this.enemyHPMultiplier = hpMultiplier;
+        this.coinsMultiplier = coinsMultiplier;
+        this.cashMultiplier = cashMultiplier;
+        this.specialEnemies = specialEnemies;
+        this.enemiesPerWave = new WaveTable(wave -> isBossWave(wave)
+            ? BOSS_COUNT
+            : ENEMIES_BASE + ENEMIES_PER_WAVE * wave + ENEMIES_PER_DIFFICULTY * level);
+        this.spawnIntervals = new WaveTable(wave -> isBossWave(wave)
+            ? BOSS_SPAWN_INTERVAL
+            : SPAWN_INTERVAL_BASE / (1 + level * SPAWN_INTERVAL_PER_DIFFICULTY));
+    }
+    
     /**
      * Get configuration for a specific difficulty level (1-6, or 999 for Endless).
+     * Returns the shared instance; no allocation.
      */
     public static DifficultyConfig getConfig(int level) {
-        DifficultyConfig config = new DifficultyConfig();
-        
         // Endless mode (999)
-        if (level == 999) {
-            config.difficultyLevel = 999;
-            config.name = ENDLESS_NAME;
-            config.enemyHPMultiplier = ENDLESS_HP_MULTIPLIER;
-            config.coinsMultiplier = ENDLESS_COINS_MULTIPLIER;
-            config.cashMultiplier = ENDLESS_CASH_MULTIPLIER;
-            config.specialEnemies = ENDLESS_SPECIAL;
-            return config;
+        if (level == ENDLESS_LEVEL) {
+            return ENDLESS;
         }
         
         // Regular difficulties (1-6)
-        level = Math.max(1, Math.min(6, level)); // Clamp to 1-6
-        int index = level - 1;
-        
-        config.difficultyLevel = level;
-        config.name = DIFFICULTY_NAMES[index];
-        config.enemyHPMultiplier = HP_MULTIPLIERS[index];
-        config.coinsMultiplier = COINS_MULTIPLIERS[index];
-        config.cashMultiplier = CASH_MULTIPLIERS[index];
-        config.specialEnemies = SPECIAL_ENEMIES[index];
-        
-        return config;
+        level = Math.max(1, Math.min(CONFIGS.length, level)); // Clamp to 1-6
+        return CONFIGS[level - 1];
+    }
+    
+    /**
+     * Boss waves have only the boss, every wave.bossEvery waves.
+     */
+    public static boolean isBossWave(int wave) {
+        return wave % BOSS_EVERY == 0;
+    }
+    
+    /**
+     * Whether a normal-wave spawn on this wave may be a mage (then rolled against getMageChance).
+     */
+    public static boolean hasMages(int wave) {
+        return wave >= MAGE_FROM_WAVE;
+    }
+    
+    public static double getMageChance() {
+        return MAGE_CHANCE;
+    }
+    
+    public static int getBurstSize() {
+        return BURST_SIZE;
+    }
+    
+    public static double getBurstSpacing() {
+        return BURST_SPACING;
     }
     
     /**
@@ -115,6 +189,8 @@ public class DifficultyConfig {
     public double getCoinsMultiplier() { return coinsMultiplier; }
     public double getCashMultiplier() { return cashMultiplier; }
     public String getSpecialEnemies() { return specialEnemies; }
+    public int getEnemiesPerWave(int wave) { return enemiesPerWave.getInt(wave); }
+    public double getSpawnInterval(int wave) { return spawnIntervals.get(wave); }
     
     /**
      * Get formatted display string for HP modifier.
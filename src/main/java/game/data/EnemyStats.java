@@ -0,0 +1,33 @@
+package game.data;
+
+/**
+ * Health, damage and coin reward of each enemy type by wave, before the difficulty
+ * multiplier. Linear in the wave number: base + perWave * wave.
+ * Tuned in balance.properties under enemy.basic.*, enemy.mage.* and enemy.boss.*.
+ */
+public final class EnemyStats {
+    public static final EnemyStats BASIC = new EnemyStats("basic", 20, 10, 5, 2, 10);
+    public static final EnemyStats MAGE = new EnemyStats("mage", 30, 15, 8, 3, 25);
+    public static final EnemyStats BOSS = new EnemyStats("boss", 200, 50, 15, 5, 100);
+
+    private final WaveTable health;
+    private final WaveTable damage;
+    private final int coinValue;
+
+    private EnemyStats(String type, double healthBase, double healthPerWave,
+                       double damageBase, double damagePerWave, int coinValue) {
+        String prefix = "enemy." + type + ".";
+        double hb = Balance.getDouble(prefix + "health.base", healthBase);
+        double hw = Balance.getDouble(prefix + "health.perWave", healthPerWave);
+        double db = Balance.getDouble(prefix + "damage.base", damageBase);
+        double dw = Balance.getDouble(prefix + "damage.perWave", damagePerWave);
+        this.health = new WaveTable(wave -> hb + hw * wave);
+        this.damage = new WaveTable(wave -> db + dw * wave);
+        this.coinValue = Balance.getInt(prefix + "coins", coinValue);
+    }
+
+    // Getters
+    public double getHealth(int wave) { return health.get(wave); }
+    public double getDamage(int wave) { return damage.get(wave); }
+    public int getCoinValue() { return coinValue; }
+}
@@ -6,6 +6,7 @@ import java.io.Serializable;
 /**
  * Data class for save/load persistence.
  * Stores player progress, upgrades, and unlocked content.
+ * Written to disk with SaveCodec; Serializable is kept only to read legacy saves.
  */
 public class GameData implements Serializable {
     private static final long serialVersionUID = 1L;
@@ -62,6 +63,27 @@ public class GameData implements Serializable {
         this.specialAbilityUnlocked = upgradeManager.hasSpecialAbility();
     }
     
+    /**
+     * Restore every field as read back by SaveCodec.
+     * @param levels permanent upgrade levels in SaveCodec order
+     */
+    GameData(int cash, int unlockedDifficulty, int highScore, int[] levels,
+             boolean specialAbilityUnlocked, int audioLatencyOffset) {
+        this.cash = cash;
+        this.unlockedDifficulty = unlockedDifficulty;
+        this.highScore = highScore;
+        this.fireRateLevel = levels[0];
+        this.damageLevel = levels[1];
+        this.healthLevel = levels[2];
+        this.speedLevel = levels[3];
+        this.bulletCountLevel = levels[4];
+        this.bulletSpeedLevel = levels[5];
+        this.critChanceLevel = levels[6];
+        this.critDamageLevel = levels[7];
+        this.specialAbilityUnlocked = specialAbilityUnlocked;
+        this.audioLatencyOffset = audioLatencyOffset;
+    }
+    
     public void addCash(int amount) {
         cash += amount;
     }
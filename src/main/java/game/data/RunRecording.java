@@ -0,0 +1,280 @@
+package game.data;
+
+import game.systems.UpgradeManager;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Everything needed to re-run one game exactly: the run seed, tick rate, difficulty and
+ * permanent upgrade levels, the key mask of every simulated tick, and the shop commands with the
+ * tick they were applied before. The end state is stored too so a replay can verify
+ * that it reproduced the run.
+ *
+ * Binary layout (little-endian):
+ *   0  int    magic "IREC"
+ *   4  short  format version
+ *   6  short  flags (bit 0 = special ability unlocked)
+ *   8  long   seed
+ *  16  int    difficulty
+ *  20  int[8] permanent upgrade levels (SaveCodec order)
+ *  52  int    tick count
+ *  56  int    end wave
+ *  60  int    end coins
+ *  64  long   end health (double bits)
+ *  72  int    simulation tick rate (Hz)
+ *  76  int    command count, then per command: int tick, byte type, byte argument
+ *      int    key run count, then per run: varint length, byte key mask
+ *      int    CRC32 of all preceding bytes
+ */
+public class RunRecording {
+    public static final int MAGIC = 0x43455249; // "IREC" when read as little-endian bytes
+    // 2: shop purchases no longer reset the player, 3: scheduled spawns, 4: swept collisions, tick rate,
+    // 5: shop purchases fully heal again
+    public static final short VERSION = 5;
+    public static final String DEFAULT_FILE = System.getProperty("user.home") +
+                                              "/.incremental_shooter_last_run.rec";
+
+    private static final int HEADER_SIZE = 80;
+    private static final int LEVEL_COUNT = 8;
+    private static final int FLAG_SPECIAL_ABILITY = 1;
+
+    private final long seed;
+    private final int difficulty;
+    private final int tickRate;
+    private final int[] levels;
+    private final boolean specialAbility;
+
+    private byte[] keys = new byte[4096];
+    private int tickCount;
+    private int[] commandTicks = new int[16];
+    private byte[] commandTypes = new byte[16];
+    private byte[] commandArgs = new byte[16];
+    private int commandCount;
+
+    private int endWave;
+    private int endCoins;
+    private double endHealth;
+
+    /**
+     * Start a recording for a run with the upgrade manager's current permanent levels.
+     */
+    public RunRecording(long seed, int difficulty, int tickRate, UpgradeManager upgrades) {
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.tickRate = tickRate;
+        this.levels = new int[LEVEL_COUNT];
+        UpgradeManager.UpgradeType[] types = UpgradeManager.UpgradeType.values();
+        for (int i = 0; i < LEVEL_COUNT; i++) {
+            levels[i] = upgrades.getPermanentLevel(types[i]);
+        }
+        this.specialAbility = upgrades.hasSpecialAbility();
+    }
+
+    private RunRecording(long seed, int difficulty, int tickRate, int[] levels, boolean specialAbility) {
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.tickRate = tickRate;
+        this.levels = levels;
+        this.specialAbility = specialAbility;
+    }
+
+    /**
+     * Append the key mask of the next simulated tick.
+     */
+    public void recordTick(int keyMask) {
+        if (tickCount == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+        }
+        keys[tickCount++] = (byte) keyMask;
+    }
+
+    /**
+     * Record a command applied before the next simulated tick.
+     */
+    public void recordCommand(int type, int argument) {
+        if (commandCount == commandTicks.length) {
+            int capacity = commandTicks.length * 2;
+            commandTicks = Arrays.copyOf(commandTicks, capacity);
+            commandTypes = Arrays.copyOf(commandTypes, capacity);
+            commandArgs = Arrays.copyOf(commandArgs, capacity);
+        }
+        commandTicks[commandCount] = tickCount;
+        commandTypes[commandCount] = (byte) type;
+        commandArgs[commandCount] = (byte) argument;
+        commandCount++;
+    }
+
+    /**
+     * Store the state the run ended in, for replay verification.
+     */
+    public void finish(int wave, int coins, double health) {
+        this.endWave = wave;
+        this.endCoins = coins;
+        this.endHealth = health;
+    }
+
+    /**
+     * Permanent upgrades of the recorded run, for loading into an UpgradeManager.
+     */
+    public GameData toGameData() {
+        return new GameData(0, 1, 0, levels.clone(), specialAbility, 0);
+    }
+
+    public byte[] encode() {
+        // Run-length encode the key masks; input rarely changes from tick to tick
+        int runs = 0;
+        for (int i = 0; i < tickCount; i++) {
+            if (i == 0 || keys[i] != keys[i - 1]) runs++;
+        }
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE + 4 + commandCount * 6 + 4 + runs * 6 + 4)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(MAGIC);
+        buf.putShort(VERSION);
+        buf.putShort((short) (specialAbility ? FLAG_SPECIAL_ABILITY : 0));
+        buf.putLong(seed);
+        buf.putInt(difficulty);
+        for (int level : levels) {
+            buf.putInt(level);
+        }
+        buf.putInt(tickCount);
+        buf.putInt(endWave);
+        buf.putInt(endCoins);
+        buf.putLong(Double.doubleToLongBits(endHealth));
+        buf.putInt(tickRate);
+
+        buf.putInt(commandCount);
+        for (int i = 0; i < commandCount; i++) {
+            buf.putInt(commandTicks[i]);
+            buf.put(commandTypes[i]);
+            buf.put(commandArgs[i]);
+        }
+
+        buf.putInt(runs);
+        int i = 0;
+        while (i < tickCount) {
+            int start = i;
+            while (i < tickCount && keys[i] == keys[start]) i++;
+            putVarInt(buf, i - start);
+            buf.put(keys[start]);
+        }
+
+        int length = buf.position();
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), 0, length);
+        buf.putInt((int) crc.getValue());
+        return Arrays.copyOf(buf.array(), buf.position());
+    }
+
+    /**
+     * @throws IOException if the bytes are not a valid recording of a supported version
+     */
+    public static RunRecording decode(byte[] bytes) throws IOException {
+        if (bytes.length < HEADER_SIZE + 12) {
+            throw new IOException("Recording is truncated");
+        }
+        ByteBuffer buf = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        if (buf.getInt() != MAGIC) {
+            throw new IOException("Not a run recording");
+        }
+        short version = buf.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported recording version " + version);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 4);
+        if (buf.getInt(bytes.length - 4) != (int) crc.getValue()) {
+            throw new IOException("Recording checksum mismatch");
+        }
+
+        try {
+            boolean special = (buf.getShort() & FLAG_SPECIAL_ABILITY) != 0;
+            long seed = buf.getLong();
+            int difficulty = buf.getInt();
+            int[] levels = new int[LEVEL_COUNT];
+            for (int i = 0; i < LEVEL_COUNT; i++) {
+                levels[i] = buf.getInt();
+            }
+            int ticks = buf.getInt();
+            int endWave = buf.getInt();
+            int endCoins = buf.getInt();
+            double endHealth = Double.longBitsToDouble(buf.getLong());
+            RunRecording rec = new RunRecording(seed, difficulty, buf.getInt(), levels, special);
+            rec.endWave = endWave;
+            rec.endCoins = endCoins;
+            rec.endHealth = endHealth;
+
+            int commands = buf.getInt();
+            for (int i = 0; i < commands; i++) {
+                int tick = buf.getInt();
+                rec.tickCount = tick;
+                rec.recordCommand(buf.get(), buf.get());
+            }
+
+            rec.tickCount = 0;
+            rec.keys = new byte[Math.max(16, ticks)];
+            int runs = buf.getInt();
+            for (int r = 0; r < runs; r++) {
+                int length = getVarInt(buf);
+                byte mask = buf.get();
+                if (length > ticks - rec.tickCount) {
+                    throw new IOException("Recording key data is corrupt");
+                }
+                Arrays.fill(rec.keys, rec.tickCount, rec.tickCount + length, mask);
+                rec.tickCount += length;
+            }
+            if (rec.tickCount != ticks) {
+                throw new IOException("Recording key data is corrupt");
+            }
+            return rec;
+        } catch (java.nio.BufferUnderflowException e) {
+            throw new IOException("Recording is truncated");
+        }
+    }
+
+    public void write(String path) throws IOException {
+        Files.write(Paths.get(path), encode());
+    }
+
+    public static RunRecording read(String path) throws IOException {
+        return decode(Files.readAllBytes(Paths.get(path)));
+    }
+
+    private static void putVarInt(ByteBuffer buf, int value) {
+        while ((value & ~0x7F) != 0) {
+            buf.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buf.put((byte) value);
+    }
+
+    private static int getVarInt(ByteBuffer buf) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buf.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Recording key data is corrupt");
+    }
+
+    // Getters
+    public long getSeed() { return seed; }
+    public int getDifficulty() { return difficulty; }
+    public int getTickRate() { return tickRate; }
+    public int getTickCount() { return tickCount; }
+    public int getKeys(int tick) { return keys[tick]; }
+    public int getCommandCount() { return commandCount; }
+    public int getCommandTick(int i) { return commandTicks[i]; }
+    public int getCommandType(int i) { return commandTypes[i]; }
+    public int getCommandArgument(int i) { return commandArgs[i]; }
+    public int getEndWave() { return endWave; }
+    public int getEndCoins() { return endCoins; }
+    public double getEndHealth() { return endHealth; }
+}
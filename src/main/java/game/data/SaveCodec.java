@@ -0,0 +1,107 @@
+package game.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32;
+
+/**
+ * Compact versioned binary encoding of GameData.
+ * 
+ * Layout (64 bytes, little-endian, fixed offsets):
+ *   0  int    magic "ISAV"
+ *   4  short  format version
+ *   6  short  flags (bit 0 = special ability unlocked)
+ *   8  int    cash
+ *  12  int    unlocked difficulty
+ *  16  int    high score
+ *  20  int[8] permanent upgrade levels (fire rate, damage, health, speed,
+ *             bullet count, bullet speed, crit chance, crit damage)
+ *  52  int    audio latency offset (ms)
+ *  56  int    reserved
+ *  60  int    CRC32 of bytes 0-59
+ */
+public final class SaveCodec {
+    public static final int MAGIC = 0x56415349; // "ISAV" when read as little-endian bytes
+    public static final short VERSION = 1;
+    public static final int SIZE = 64;
+    
+    private static final int OFFSET_VERSION = 4;
+    private static final int OFFSET_FLAGS = 6;
+    private static final int OFFSET_CASH = 8;
+    private static final int OFFSET_UNLOCKED_DIFFICULTY = 12;
+    private static final int OFFSET_HIGH_SCORE = 16;
+    private static final int OFFSET_LEVELS = 20;
+    private static final int LEVEL_COUNT = 8;
+    private static final int OFFSET_LATENCY = 52;
+    private static final int OFFSET_CHECKSUM = 60;
+    
+    private static final int FLAG_SPECIAL_ABILITY = 1;
+    
+    private SaveCodec() {}
+    
+    public static byte[] encode(GameData data) {
+        ByteBuffer buf = ByteBuffer.allocate(SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(0, MAGIC);
+        buf.putShort(OFFSET_VERSION, VERSION);
+        buf.putShort(OFFSET_FLAGS, (short) (data.hasSpecialAbility() ? FLAG_SPECIAL_ABILITY : 0));
+        buf.putInt(OFFSET_CASH, data.getCash());
+        buf.putInt(OFFSET_UNLOCKED_DIFFICULTY, data.getUnlockedDifficulty());
+        buf.putInt(OFFSET_HIGH_SCORE, data.getHighScore());
+        
+        int[] levels = {
+            data.getFireRateLevel(), data.getDamageLevel(), data.getHealthLevel(), data.getSpeedLevel(),
+            data.getBulletCountLevel(), data.getBulletSpeedLevel(), data.getCritChanceLevel(), data.getCritDamageLevel()
+        };
+        for (int i = 0; i < LEVEL_COUNT; i++) {
+            buf.putInt(OFFSET_LEVELS + i * 4, levels[i]);
+        }
+        buf.putInt(OFFSET_LATENCY, data.getAudioLatencyOffset());
+        buf.putInt(OFFSET_CHECKSUM, checksum(buf.array()));
+        return buf.array();
+    }
+    
+    /**
+     * @throws IOException if the bytes are not a valid save of a supported version
+     */
+    public static GameData decode(byte[] bytes) throws IOException {
+        if (!isBinarySave(bytes) || bytes.length < SIZE) {
+            throw new IOException("Not a binary save file");
+        }
+        ByteBuffer buf = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        short version = buf.getShort(OFFSET_VERSION);
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+        if (buf.getInt(OFFSET_CHECKSUM) != checksum(bytes)) {
+            throw new IOException("Save file checksum mismatch");
+        }
+        
+        int[] levels = new int[LEVEL_COUNT];
+        for (int i = 0; i < LEVEL_COUNT; i++) {
+            levels[i] = buf.getInt(OFFSET_LEVELS + i * 4);
+        }
+        return new GameData(
+            buf.getInt(OFFSET_CASH),
+            buf.getInt(OFFSET_UNLOCKED_DIFFICULTY),
+            buf.getInt(OFFSET_HIGH_SCORE),
+            levels,
+            (buf.getShort(OFFSET_FLAGS) & FLAG_SPECIAL_ABILITY) != 0,
+            buf.getInt(OFFSET_LATENCY));
+    }
+    
+    /**
+     * True if the bytes start with the binary save magic (as opposed to a legacy
+     * Java-serialized save).
+     */
+    public static boolean isBinarySave(byte[] bytes) {
+        return bytes.length >= 4 &&
+               ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getInt(0) == MAGIC;
+    }
+    
+    private static int checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, OFFSET_CHECKSUM);
+        return (int) crc.getValue();
+    }
+}
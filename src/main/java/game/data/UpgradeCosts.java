@@ -0,0 +1,24 @@
+package game.data;
+
+/**
+ * Cost curve parameters of each upgrade, read from balance.properties under
+ * upgrade.&lt;type&gt;.baseCost and upgrade.&lt;type&gt;.multiplier (type in lower case,
+ * e.g. upgrade.fire_rate.baseCost). Missing or invalid values use the built-in curve.
+ */
+public final class UpgradeCosts {
+    private UpgradeCosts() {}
+
+    public static int getBaseCost(String type, int fallback) {
+        int value = Balance.getInt(key(type, "baseCost"), fallback);
+        return value >= 0 ? value : fallback;
+    }
+
+    public static double getMultiplier(String type, double fallback) {
+        double value = Balance.getDouble(key(type, "multiplier"), fallback);
+        return value > 0 ? value : fallback;
+    }
+
+    private static String key(String type, String field) {
+        return "upgrade." + type.toLowerCase(java.util.Locale.ROOT) + "." + field;
+    }
+}
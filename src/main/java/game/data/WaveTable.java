@@ -0,0 +1,48 @@
+package game.data;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Per-wave values of one balance formula. The first waves are tabulated up front and
+ * the table is extended on demand, since Endless mode has no last wave.
+ * Entries never change once computed; a grown table replaces the old one, so readers
+ * on any thread see one or the other.
+ */
+public final class WaveTable {
+    private static final int PRECOMPUTED_WAVES = 32;
+
+    private final IntToDoubleFunction formula;
+    private volatile double[] values = new double[0];
+
+    public WaveTable(IntToDoubleFunction formula) {
+        this.formula = formula;
+        grow(PRECOMPUTED_WAVES - 1);
+    }
+
+    public double get(int wave) {
+        wave = Math.max(0, wave);
+        double[] table = values;
+        if (wave >= table.length) {
+            table = grow(wave);
+        }
+        return table[wave];
+    }
+
+    public int getInt(int wave) {
+        return (int) get(wave);
+    }
+
+    private synchronized double[] grow(int wave) {
+        double[] table = values;
+        if (wave < table.length) {
+            return table;
+        }
+        double[] grown = Arrays.copyOf(table, Math.max(wave + 1, table.length * 2));
+        for (int w = table.length; w < grown.length; w++) {
+            grown[w] = formula.applyAsDouble(w);
+        }
+        values = grown;
+        return grown;
+    }
+}
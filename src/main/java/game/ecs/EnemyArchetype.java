@@ -0,0 +1,81 @@
+package game.ecs;
+
+import game.data.EnemyStats;
+import game.entities.SpriteCache;
+import java.awt.*;
+
+/**
+ * Static description of an enemy type: body size, initial velocity, look, weapon and
+ * steering. Everything that differs per enemy lives in EnemyWorld's component arrays.
+ */
+public enum EnemyArchetype {
+    // Moves straight down, no weapon
+    BASIC(EnemyStats.BASIC, 25, 0, 80, Color.RED,
+          0, 0, 0, 0, false, false),
+    // Slower, fires an aimed shot every 2s while in the upper part of the arena
+    MAGE(EnemyStats.MAGE, 30, 0, 50, Color.MAGENTA,
+         2.0, 200, 50, 500, false, false),
+    // Boss waves: sweeps side to side, stops near the top, fires an aimed shot plus a fan of 3
+    BOSS(EnemyStats.BOSS, 60, 100, 30, Color.ORANGE,
+         1.5, 150, 50, Double.POSITIVE_INFINITY, true, true);
+
+    private final EnemyStats stats;
+    private final double size;
+    private final double speedX;
+    private final double speedY;
+    private final Color color;
+
+    // Weapon: fires when the timer reaches fireInterval while minFireY < y < maxFireY
+    private final double fireInterval; // 0 = unarmed
+    private final double shotSpeed;
+    private final double minFireY;
+    private final double maxFireY;
+    private final boolean fan;
+
+    private final boolean sweeps;
+
+    // Sprites, rasterised on first use
+    private Image sprite;
+    private Image flashSprite;
+
+    EnemyArchetype(EnemyStats stats, double size, double speedX, double speedY, Color color,
+                   double fireInterval, double shotSpeed, double minFireY, double maxFireY,
+                   boolean fan, boolean sweeps) {
+        this.stats = stats;
+        this.size = size;
+        this.speedX = speedX;
+        this.speedY = speedY;
+        this.color = color;
+        this.fireInterval = fireInterval;
+        this.shotSpeed = shotSpeed;
+        this.minFireY = minFireY;
+        this.maxFireY = maxFireY;
+        this.fan = fan;
+        this.sweeps = sweeps;
+    }
+
+    /**
+     * Pentagon sprite for this type; white while crit-flashing.
+     */
+    public Image getSprite(boolean flash) {
+        if (sprite == null) {
+            sprite = SpriteCache.enemy(color, (int) size);
+            flashSprite = SpriteCache.enemy(Color.WHITE, (int) size);
+        }
+        return flash ? flashSprite : sprite;
+    }
+
+    // Getters
+    public EnemyStats getStats() { return stats; }
+    public double getSize() { return size; }
+    public double getSpeedX() { return speedX; }
+    public double getSpeedY() { return speedY; }
+    public Color getColor() { return color; }
+    public boolean isArmed() { return fireInterval > 0; }
+    public double getFireInterval() { return fireInterval; }
+    public double getShotSpeed() { return shotSpeed; }
+    public double getMinFireY() { return minFireY; }
+    public double getMaxFireY() { return maxFireY; }
+    public boolean firesFan() { return fan; }
+    public boolean sweeps() { return sweeps; }
+}
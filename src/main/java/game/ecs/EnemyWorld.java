@@ -0,0 +1,201 @@
+package game.ecs;
+
+import game.entities.Entity;
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Entity-component store for enemies. An enemy is just an index into dense, parallel
+ * component arrays (position, velocity, health, weapon, render); the systems in this
+ * package walk them linearly instead of dispatching through an object per enemy.
+ *
+ * Live enemies are packed into [0, size) in spawn order. removeDead() compacts the
+ * arrays but keeps that order, so update, shot and hit order match from run to run.
+ */
+public class EnemyWorld {
+    private static final double CRIT_FLASH_TIME = 0.12; // 120ms white flash on a crit
+
+    int size;
+    EnemyArchetype[] archetype;
+
+    // Position (prev = start of the tick, for render interpolation)
+    double[] x;
+    double[] y;
+    double[] prevX;
+    double[] prevY;
+
+    // Velocity, plus the boss sweep timer that steers it
+    double[] vx;
+    double[] vy;
+    double[] sweepTimer;
+
+    // Health and contact damage
+    double[] health;
+    double[] maxHealth;
+    double[] damage;
+    boolean[] alive;
+
+    // Weapon
+    double[] fireTimer;
+
+    // Render
+    double[] flashTimer;
+
+    public EnemyWorld(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        archetype = new EnemyArchetype[capacity];
+        x = new double[capacity];
+        y = new double[capacity];
+        prevX = new double[capacity];
+        prevY = new double[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        sweepTimer = new double[capacity];
+        health = new double[capacity];
+        maxHealth = new double[capacity];
+        damage = new double[capacity];
+        alive = new boolean[capacity];
+        fireTimer = new double[capacity];
+        flashTimer = new double[capacity];
+    }
+
+    /**
+     * Add an enemy of the given type with its top-left corner at (px, py), with the
+     * wave's health and damage scaled by the difficulty multiplier.
+     * @return index of the new enemy
+     */
+    public int spawn(EnemyArchetype type, double px, double py, int wave, double multiplier) {
+        if (size == x.length) {
+            grow();
+        }
+        int i = size++;
+        archetype[i] = type;
+        x[i] = px;
+        y[i] = py;
+        prevX[i] = px;
+        prevY[i] = py;
+        vx[i] = type.getSpeedX();
+        vy[i] = type.getSpeedY();
+        sweepTimer[i] = 0;
+        maxHealth[i] = type.getStats().getHealth(wave) * multiplier;
+        health[i] = maxHealth[i];
+        damage[i] = type.getStats().getDamage(wave) * multiplier;
+        alive[i] = true;
+        fireTimer[i] = 0;
+        flashTimer[i] = 0;
+        return i;
+    }
+
+    /**
+     * Drop dead enemies, shifting the survivors down in order.
+     */
+    public void removeDead() {
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (!alive[i]) continue;
+            if (n != i) {
+                archetype[n] = archetype[i];
+                x[n] = x[i];
+                y[n] = y[i];
+                prevX[n] = prevX[i];
+                prevY[n] = prevY[i];
+                vx[n] = vx[i];
+                vy[n] = vy[i];
+                sweepTimer[n] = sweepTimer[i];
+                health[n] = health[i];
+                maxHealth[n] = maxHealth[i];
+                damage[n] = damage[i];
+                alive[n] = true;
+                fireTimer[n] = fireTimer[i];
+                flashTimer[n] = flashTimer[i];
+            }
+            n++;
+        }
+        Arrays.fill(archetype, n, size, null);
+        size = n;
+    }
+
+    public void takeDamage(int i, double amount, boolean isCrit) {
+        health[i] -= amount;
+
+        if (isCrit) {
+            flashTimer[i] = CRIT_FLASH_TIME;
+        }
+
+        if (health[i] <= 0) {
+            health[i] = 0;
+            alive[i] = false;
+        }
+    }
+
+    public void kill(int i) {
+        alive[i] = false;
+    }
+
+    public void clear() {
+        Arrays.fill(archetype, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Move enemy i without interpolating from its old position.
+     */
+    public void setPosition(int i, double px, double py) {
+        x[i] = px;
+        y[i] = py;
+        prevX[i] = px;
+        prevY[i] = py;
+    }
+
+    /**
+     * AABB test of enemy i against an entity.
+     */
+    public boolean overlaps(int i, Entity other) {
+        double s = archetype[i].getSize();
+        return x[i] < other.getX() + other.getWidth() &&
+               x[i] + s > other.getX() &&
+               y[i] < other.getY() + other.getHeight() &&
+               y[i] + s > other.getY();
+    }
+
+    /**
+     * Sprite for enemy i, white while it is crit-flashing.
+     */
+    public Image getSprite(int i) {
+        return archetype[i].getSprite(flashTimer[i] > 0);
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        archetype = Arrays.copyOf(archetype, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        sweepTimer = Arrays.copyOf(sweepTimer, capacity);
+        health = Arrays.copyOf(health, capacity);
+        maxHealth = Arrays.copyOf(maxHealth, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        fireTimer = Arrays.copyOf(fireTimer, capacity);
+        flashTimer = Arrays.copyOf(flashTimer, capacity);
+    }
+
+    // Getters
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public EnemyArchetype getArchetype(int i) { return archetype[i]; }
+    public double getX(int i) { return x[i]; }
+    public double getY(int i) { return y[i]; }
+    public double getPrevX(int i) { return prevX[i]; }
+    public double getPrevY(int i) { return prevY[i]; }
+    public double getSize(int i) { return archetype[i].getSize(); }
+    public double getCenterX(int i) { return x[i] + archetype[i].getSize() / 2; }
+    public double getCenterY(int i) { return y[i] + archetype[i].getSize() / 2; }
+    public double getDamage(int i) { return damage[i]; }
+    public int getCoinValue(int i) { return archetype[i].getStats().getCoinValue(); }
+    public double getHealthRatio(int i) { return health[i] / maxHealth[i]; }
+    public boolean isAlive(int i) { return alive[i]; }
+}
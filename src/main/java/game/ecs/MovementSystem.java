@@ -0,0 +1,64 @@
+package game.ecs;
+
+/**
+ * Steers, integrates and ages enemies: boss sweeps, position, crit flash, and
+ * culling of enemies that leave the arena.
+ */
+public final class MovementSystem {
+    private static final double SWEEP_PERIOD = 2.0; // Seconds between direction changes
+    private static final double SWEEP_MAX_X = 740;
+    private static final double SWEEP_STOP_Y = 100;  // Sweepers stop descending below this
+
+    private MovementSystem() {}
+
+    /**
+     * Update enemies [from, to). Only touches those indices, so disjoint ranges can run concurrently.
+     */
+    public static void update(EnemyWorld world, int from, int to, double deltaTime) {
+        EnemyArchetype[] archetype = world.archetype;
+        double[] x = world.x;
+        double[] y = world.y;
+        double[] prevX = world.prevX;
+        double[] prevY = world.prevY;
+        double[] vx = world.vx;
+        double[] vy = world.vy;
+        double[] sweepTimer = world.sweepTimer;
+        double[] flashTimer = world.flashTimer;
+        boolean[] alive = world.alive;
+
+        for (int i = from; i < to; i++) {
+            if (archetype[i].sweeps()) {
+                sweepTimer[i] += deltaTime;
+
+                // Move side to side
+                if (sweepTimer[i] > SWEEP_PERIOD) {
+                    vx[i] = -vx[i];
+                    sweepTimer[i] = 0;
+                }
+
+                // Bounce off walls
+                if (x[i] < 0 || x[i] > SWEEP_MAX_X) {
+                    vx[i] = -vx[i];
+                }
+
+                // Stop moving down after reaching position
+                if (y[i] > SWEEP_STOP_Y) {
+                    vy[i] = 0;
+                }
+            }
+
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] += vx[i] * deltaTime;
+            y[i] += vy[i] * deltaTime;
+
+            if (flashTimer[i] > 0) {
+                flashTimer[i] -= deltaTime;
+            }
+
+            if (y[i] > 650 || x[i] < -100 || x[i] > 900) {
+                alive[i] = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package game.ecs;
+
+import game.entities.Player;
+import game.entities.ProjectilePool;
+
+/**
+ * Ticks enemy weapons and fires the ones that are ready: an aimed shot at the player,
+ * plus a fan of three straight-down shots for archetypes that have one.
+ * Runs after MovementSystem, so shots leave from the enemy's new position.
+ */
+public final class WeaponSystem {
+    private static final double FAN_ANGLE_STEP = 20; // Degrees between fan shots
+
+    private WeaponSystem() {}
+
+    /**
+     * Update enemies [from, to), spawning their shots into the given pool in index order.
+     * Only touches those enemies and reads the player, so disjoint ranges can run concurrently.
+     */
+    public static void update(EnemyWorld world, int from, int to, double deltaTime,
+                              Player player, ProjectilePool projectiles) {
+        EnemyArchetype[] archetype = world.archetype;
+        double[] y = world.y;
+        double[] fireTimer = world.fireTimer;
+
+        for (int i = from; i < to; i++) {
+            EnemyArchetype type = archetype[i];
+            if (!type.isArmed()) continue;
+
+            fireTimer[i] += deltaTime;
+            if (fireTimer[i] >= type.getFireInterval()
+                    && y[i] > type.getMinFireY() && y[i] < type.getMaxFireY()) {
+                fireTimer[i] = 0;
+                fire(world, i, type, player, projectiles);
+            }
+        }
+    }
+
+    private static void fire(EnemyWorld world, int i, EnemyArchetype type,
+                             Player player, ProjectilePool projectiles) {
+        double cx = world.getCenterX(i);
+        double cy = world.getCenterY(i);
+        double speed = type.getShotSpeed();
+        double damage = world.damage[i];
+
+        // Calculate direction to player
+        double dx = player.getCenterX() - cx;
+        double dy = player.getCenterY() - cy;
+        double distance = Math.sqrt(dx * dx + dy * dy);
+        projectiles.spawn(cx, cy, (dx / distance) * speed, (dy / distance) * speed,
+                          damage, false, false);
+
+        if (type.firesFan()) {
+            for (int s = -1; s <= 1; s++) {
+                double angle = Math.toRadians(90 + (s * FAN_ANGLE_STEP));
+                projectiles.spawn(cx, cy, Math.cos(angle) * speed, Math.sin(angle) * speed,
+                                  damage, false, false);
+            }
+        }
+    }
+}
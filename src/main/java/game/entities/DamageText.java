@@ -5,16 +5,16 @@ import java.awt.*;
 public class DamageText {
 
     private double x, y;
-    private int value;
+    private String label; // Formatted once by the caller, not per frame
     private Color color;
     private double lifetime = 1.0; // detik
     private double velocityY = -40;
     private boolean alive = true;
 
-    public DamageText(double x, double y, int value, boolean isCrit) {
+    public DamageText(double x, double y, String label, boolean isCrit) {
         this.x = x;
         this.y = y;
-        this.value = value;
+        this.label = label;
         this.color = isCrit ? Color.YELLOW : Color.RED;
     }
 
@@ -24,13 +24,13 @@ public class DamageText {
         if (lifetime <= 0) alive = false;
     }
 
-    public void render(Graphics2D g2d) {
-        g2d.setColor(color);
-        g2d.setFont(new Font("Arial", Font.BOLD, 14));
-        g2d.drawString(String.valueOf(value), (int) x, (int) y);
-    }
-
     public boolean isAlive() {
         return alive;
     }
+
+    // Getters
+    public double getX() { return x; }
+    public double getY() { return y; }
+    public String getLabel() { return label; }
+    public Color getColor() { return color; }
 }
@@ -1,13 +1,12 @@
 package game.entities;
 
-import java.awt.Graphics2D;
-
 /**
- * Base class for all game entities (Player, Enemies, Projectiles).
- * Provides common properties and behaviors using OOP principles.
+ * Base class for object-style entities (the Player).
+ * Enemies are components in game.ecs.EnemyWorld and bullets live in ProjectilePool.
  */
 public abstract class Entity {
     protected double x, y;
+    protected double prevX, prevY; // Position at the start of the current tick (for interpolation)
     protected double velocityX, velocityY;
     protected double width, height;
     protected boolean alive;
@@ -18,6 +17,8 @@ public abstract class Entity {
         this.width = width;
         this.height = height;
         this.alive = true;
+        this.prevX = x;
+        this.prevY = y;
     }
     
     /**
@@ -26,9 +27,13 @@ public abstract class Entity {
     public abstract void update(double deltaTime);
     
     /**
-     * Render entity - must be implemented by subclasses.
+     * Remember the current position as the start of the tick.
+     * Called once per tick before the entity moves.
      */
-    public abstract void render(Graphics2D g2d);
+    public void storePreviousPosition() {
+        this.prevX = x;
+        this.prevY = y;
+    }
     
     /**
      * Check collision with another entity using AABB.
@@ -43,6 +48,8 @@ public abstract class Entity {
     public void setPosition(double x, double y) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
     }
     
     public void setVelocity(double vx, double vy) {
@@ -57,6 +64,8 @@ public abstract class Entity {
     // Getters
     public double getX() { return x; }
     public double getY() { return y; }
+    public double getPrevX() { return prevX; }
+    public double getPrevY() { return prevY; }
     public double getWidth() { return width; }
     public double getHeight() { return height; }
     public boolean isAlive() { return alive; }
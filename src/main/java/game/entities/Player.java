@@ -3,8 +3,6 @@ package game.entities;
 import game.systems.InputManager;
 import game.systems.UpgradeManager;
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 /**
@@ -12,10 +10,6 @@ import java.util.Random;
  */
 public class Player extends Entity {
 
-    // === CRITICAL HIT SYSTEM ===
-    // Base values - will be updated from upgrades in reset()
-    private double critChance = 0.1;     // Base 10% chance
-    private double critMultiplier = 1.5; // Base 1.5x damage (+50%)
     // DASH
 private double dashCooldown = 1.5;   // detik
 private double dashDuration = 0.15;  // detik
@@ -26,59 +20,100 @@ private double dashTimer = 0;
 
 private boolean isDashing = false;
 private boolean invincible = false;
+private boolean godMode = false; // Stress testing: never takes damage
 
 private double dashDirX = 0;
 private double dashDirY = 0;
 
     private final Random random = new Random();
 
-    private static final double BASE_SPEED = 200.0;
-    private static final double BASE_FIRE_RATE = 0.5; // seconds between shots
-
     private UpgradeManager upgradeManager;
+    private PlayerStats stats; // Derived from upgrade levels, see refreshStats()
     private double health;
-    private double maxHealth;
     private int coins;
-    private List<Projectile> projectiles;
+    private final ProjectilePool projectiles;
 
     private double fireTimer;
-    private double speed;
 
     public Player(double x, double y, UpgradeManager upgradeManager) {
         super(x, y, 30, 30);
         this.upgradeManager = upgradeManager;
-        this.projectiles = new ArrayList<>();
+        this.projectiles = new ProjectilePool(256);
         reset();
     }
 
     public void reset() {
-        this.maxHealth = 100 + (upgradeManager.getHealthLevel() * 20);
-        this.health = maxHealth;
+        this.stats = new PlayerStats(upgradeManager);
+        this.health = stats.getMaxHealth();
         this.fireTimer = 0;
-        this.speed = BASE_SPEED + (upgradeManager.getSpeedLevel() * 20);
-        // Apply critical upgrades: +0.5% chance per level, +1% damage per level
-        this.critChance = 0.1 + (upgradeManager.getCritChanceLevel() * 0.005);
-        this.critMultiplier = 1.5 + (upgradeManager.getCritDamageLevel() * 0.01);
         this.projectiles.clear();
         this.alive = true;
     }
 
+    /**
+     * Apply upgrade purchases to the live player: stats are recomputed only if the
+     * upgrade levels changed since they were derived, and projectiles in flight are kept.
+     * A max health increase is added to current health.
+     */
+    public void refreshStats() {
+        if (stats.getUpgradeVersion() == upgradeManager.getVersion()) {
+            return;
+        }
+        double oldMaxHealth = stats.getMaxHealth();
+        stats = new PlayerStats(upgradeManager);
+        if (alive) {
+            health = Math.max(0, Math.min(stats.getMaxHealth(), health + stats.getMaxHealth() - oldMaxHealth));
+        }
+    }
+
+    /**
+     * Restore health to the current maximum.
+     */
+    public void healToFull() {
+        if (alive) {
+            health = stats.getMaxHealth();
+        }
+    }
+
+    /**
+     * Start of a new run: back to the spawn point with no coins or dash state left over,
+     * so a run depends only on its seed and input.
+     */
     public void fullReset() {
         this.coins = 0;
+        setPosition(400, 300);
+        this.dashCooldownTimer = 0;
+        this.dashTimer = 0;
+        this.isDashing = false;
+        this.invincible = false;
+        this.godMode = false;
         reset();
     }
 
+    /**
+     * Seed the crit roll generator for a deterministic run.
+     */
+    public void reseed(long seed) {
+        random.setSeed(seed);
+    }
+
+    /**
+     * Ignore all damage, so stress runs are not cut short by game over.
+     */
+    public void setGodMode(boolean godMode) {
+        this.godMode = godMode;
+    }
+
     @Override
     public void update(double deltaTime) {
         fireTimer += deltaTime;
 
-        projectiles.removeIf(p -> !p.isAlive());
-        for (Projectile p : projectiles) {
-            p.update(deltaTime);
-        }
+        projectiles.update(deltaTime);
     }
 
     public void update(double deltaTime, InputManager input) {
+        refreshStats();
+        storePreviousPosition();
         handleDash(deltaTime, input);
         handleMovement(deltaTime, input);
         tryShoot();
@@ -95,8 +130,8 @@ private double dashDirY = 0;
     if (isDashing) {
         dashTimer -= deltaTime;
 
-        x += dashDirX * speed * dashSpeedMultiplier * deltaTime;
-        y += dashDirY * speed * dashSpeedMultiplier * deltaTime;
+        x += dashDirX * stats.getSpeed() * dashSpeedMultiplier * deltaTime;
+        y += dashDirY * stats.getSpeed() * dashSpeedMultiplier * deltaTime;
 
         if (dashTimer <= 0) {
             isDashing = false;
@@ -106,14 +141,14 @@ private double dashDirY = 0;
     }
 
     // Trigger dash (SHIFT)
-    if (input.isDashPressed() && dashCooldownTimer <= 0) {
+    if (input.isTickKeyDown(InputManager.KEY_DASH) && dashCooldownTimer <= 0) {
 
         double dx = 0, dy = 0;
 
-        if (input.isKeyPressed('W')) dy -= 1;
-        if (input.isKeyPressed('S')) dy += 1;
-        if (input.isKeyPressed('A')) dx -= 1;
-        if (input.isKeyPressed('D')) dx += 1;
+        if (input.isTickKeyDown(InputManager.KEY_UP)) dy -= 1;
+        if (input.isTickKeyDown(InputManager.KEY_DOWN)) dy += 1;
+        if (input.isTickKeyDown(InputManager.KEY_LEFT)) dx -= 1;
+        if (input.isTickKeyDown(InputManager.KEY_RIGHT)) dx += 1;
 
         // Kalau tidak tekan arah, dash ke atas
         if (dx == 0 && dy == 0) dy = -1;
@@ -134,72 +169,51 @@ private double dashDirY = 0;
     public void handleMovement(double deltaTime, InputManager input) {
         double dx = 0, dy = 0;
 
-        if (input.isKeyPressed('W')) dy -= 1;
-        if (input.isKeyPressed('S')) dy += 1;
-        if (input.isKeyPressed('A')) dx -= 1;
-        if (input.isKeyPressed('D')) dx += 1;
+        if (input.isTickKeyDown(InputManager.KEY_UP)) dy -= 1;
+        if (input.isTickKeyDown(InputManager.KEY_DOWN)) dy += 1;
+        if (input.isTickKeyDown(InputManager.KEY_LEFT)) dx -= 1;
+        if (input.isTickKeyDown(InputManager.KEY_RIGHT)) dx += 1;
 
         if (dx != 0 && dy != 0) {
             dx *= 0.707;
             dy *= 0.707;
         }
 
-        x += dx * speed * deltaTime;
-        y += dy * speed * deltaTime;
+        x += dx * stats.getSpeed() * deltaTime;
+        y += dy * stats.getSpeed() * deltaTime;
 
         x = Math.max(0, Math.min(770, x));
         y = Math.max(0, Math.min(570, y));
     }
 
     public void tryShoot() {
-        double fireRate = BASE_FIRE_RATE / (1 + upgradeManager.getFireRateLevel() * 0.3);
-
-        if (fireTimer >= fireRate) {
+        if (fireTimer >= stats.getFireInterval()) {
             shoot();
             fireTimer = 0;
         }
     }
 
     private void shoot() {
-    int bulletCount = 1 + upgradeManager.getBulletCountLevel();
-    double baseDamage = 10 + (upgradeManager.getDamageLevel() * 5);
-    double bulletSpeed = 400 + (upgradeManager.getBulletSpeedLevel() * 50);
-
-    // === CRITICAL HIT CHECK ===
-    boolean isCrit = random.nextDouble() < critChance;
-    double finalDamage = isCrit ? baseDamage * critMultiplier : baseDamage;
-
-    if (bulletCount == 1) {
-        projectiles.add(new Projectile(
-                getCenterX(), getCenterY(),
-                0, -bulletSpeed,
-                finalDamage,
-                true,
-                isCrit          // ✅ FIX PENTING
-        ));
-    } else {
-        double angleSpread = 15 * (bulletCount - 1);
-        for (int i = 0; i < bulletCount; i++) {
-            double angle = Math.toRadians(
-                    -90 + (-angleSpread / 2 + (angleSpread / (bulletCount - 1)) * i)
-            );
-            double vx = Math.cos(angle) * bulletSpeed;
-            double vy = Math.sin(angle) * bulletSpeed;
+        // === CRITICAL HIT CHECK ===
+        boolean isCrit = random.nextDouble() < stats.getCritChance();
+        double finalDamage = isCrit ? stats.getDamage() * stats.getCritMultiplier() : stats.getDamage();
+        double bulletSpeed = stats.getBulletSpeed();
 
-            projectiles.add(new Projectile(
+        for (int i = 0; i < stats.getBulletCount(); i++) {
+            projectiles.spawn(
                     getCenterX(), getCenterY(),
-                    vx, vy,
+                    stats.getSpreadX(i) * bulletSpeed,
+                    stats.getSpreadY(i) * bulletSpeed,
                     finalDamage,
                     true,
-                    isCrit      // ✅ FIX PENTING
-            ));
+                    isCrit
+            );
         }
     }
-}
 
 
     public void takeDamage(double damage) {
-    if (invincible) return; // ✅ kebal saat dash
+    if (invincible || godMode) return; // ✅ kebal saat dash
 
     health -= damage;
     if (health <= 0) {
@@ -221,54 +235,17 @@ private double dashDirY = 0;
         return false;
     }
 
-    @Override
-    public void render(Graphics2D g2d) {
-        if (isDashing)
-    g2d.setColor(Color.WHITE);
-else
-    g2d.setColor(Color.CYAN);
-
-        g2d.fillOval((int) x, (int) y, (int) width, (int) height);
-
-        // Health bar
-        g2d.setColor(Color.RED);
-        g2d.fillRect((int) x, (int) (y - 10), (int) width, 5);
-        g2d.setColor(Color.GREEN);
-        g2d.fillRect(
-                (int) x,
-                (int) (y - 10),
-                (int) (width * (health / maxHealth)),
-                5
-        );
-        
-        // Dash cooldown indicator - fading bar below player
-        if (dashCooldownTimer > 0) {
-            double cooldownPercent = dashCooldownTimer / dashCooldown;
-            int alpha = (int)(255 * cooldownPercent); // Fades as cooldown decreases
-            g2d.setColor(new Color(100, 200, 255, alpha));
-            g2d.fillRect(
-                (int) x,
-                (int) (y + height + 2),
-                (int) (width * (1.0 - cooldownPercent)),
-                3
-            );
-        }
-
-        List<Projectile> projectilesCopy = new ArrayList<>(projectiles);
-        for (Projectile p : projectilesCopy) {
-            if (p.isAlive()) {
-                p.render(g2d);
-            }
-        }
-    }
-
     // === GETTERS ===
-    public List<Projectile> getProjectiles() { return projectiles; }
+    public ProjectilePool getProjectiles() { return projectiles; }
     public double getHealth() { return health; }
-    public double getMaxHealth() { return maxHealth; }
+    public double getMaxHealth() { return stats.getMaxHealth(); }
     public int getCoins() { return coins; }
     public boolean isDead() { return !alive; }
-    public double getCritChance() { return critChance; }
-    public double getCritMultiplier() { return critMultiplier; }
+    public double getCritChance() { return stats.getCritChance(); }
+    public double getCritMultiplier() { return stats.getCritMultiplier(); }
+    public PlayerStats getStats() { return stats; }
+    public Image getSprite() { return SpriteCache.player(isDashing ? Color.WHITE : Color.CYAN, (int) width); }
+    // Fraction of the dash cooldown still remaining, 0 when dash is ready
+    public double getDashCooldownRatio() { return dashCooldownTimer > 0 ? dashCooldownTimer / dashCooldown : 0; }
 
 }
@@ -0,0 +1,65 @@
+package game.entities;
+
+import game.systems.UpgradeManager;
+
+/**
+ * Player stats derived from upgrade levels, computed once per upgrade change instead of
+ * every tick or volley. Includes the unit direction of each bullet in the spread.
+ */
+public final class PlayerStats {
+    private static final double BASE_SPEED = 200.0;
+    private static final double BASE_FIRE_RATE = 0.5; // seconds between shots
+
+    private final int upgradeVersion;
+    private final double maxHealth;
+    private final double speed;
+    private final double fireInterval;
+    private final double critChance;
+    private final double critMultiplier;
+    private final double damage;
+    private final double bulletSpeed;
+    private final double[] spreadX;
+    private final double[] spreadY;
+
+    public PlayerStats(UpgradeManager upgrades) {
+        this.upgradeVersion = upgrades.getVersion();
+        this.maxHealth = 100 + (upgrades.getHealthLevel() * 20);
+        this.speed = BASE_SPEED + (upgrades.getSpeedLevel() * 20);
+        this.fireInterval = BASE_FIRE_RATE / (1 + upgrades.getFireRateLevel() * 0.3);
+        // Critical upgrades: +0.5% chance per level, +1% damage per level
+        this.critChance = 0.1 + (upgrades.getCritChanceLevel() * 0.005);
+        this.critMultiplier = 1.5 + (upgrades.getCritDamageLevel() * 0.01);
+        this.damage = 10 + (upgrades.getDamageLevel() * 5);
+        this.bulletSpeed = 400 + (upgrades.getBulletSpeedLevel() * 50);
+
+        int bulletCount = 1 + upgrades.getBulletCountLevel();
+        spreadX = new double[bulletCount];
+        spreadY = new double[bulletCount];
+        if (bulletCount == 1) {
+            spreadY[0] = -1; // Straight up
+        } else {
+            // Fan of 15 degrees between bullets, centered on straight up
+            double angleSpread = 15 * (bulletCount - 1);
+            for (int i = 0; i < bulletCount; i++) {
+                double angle = Math.toRadians(
+                        -90 + (-angleSpread / 2 + (angleSpread / (bulletCount - 1)) * i)
+                );
+                spreadX[i] = Math.cos(angle);
+                spreadY[i] = Math.sin(angle);
+            }
+        }
+    }
+
+    // Getters
+    public int getUpgradeVersion() { return upgradeVersion; }
+    public double getMaxHealth() { return maxHealth; }
+    public double getSpeed() { return speed; }
+    public double getFireInterval() { return fireInterval; }
+    public double getCritChance() { return critChance; }
+    public double getCritMultiplier() { return critMultiplier; }
+    public double getDamage() { return damage; }
+    public double getBulletSpeed() { return bulletSpeed; }
+    public int getBulletCount() { return spreadX.length; }
+    public double getSpreadX(int i) { return spreadX[i]; }
+    public double getSpreadY(int i) { return spreadY[i]; }
+}
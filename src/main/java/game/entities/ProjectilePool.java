@@ -0,0 +1,238 @@
+package game.entities;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Preallocated structure-of-arrays store for player and enemy bullets.
+ * Replaces one Projectile object (plus its Color) per shot with parallel primitive arrays.
+ *
+ * Live bullets are packed into [0, size). A dead bullet is swap-removed (the last live
+ * bullet moves into its slot), so the slots past size form the free list that spawn()
+ * reuses. Arrays only grow when a new peak bullet count is reached.
+ */
+public class ProjectilePool {
+    public static final int FLAG_PLAYER_OWNED = 1;
+    public static final int FLAG_CRITICAL = 2;
+    public static final int FLAG_DEAD = 4;
+
+    private static final double PLAYER_SIZE = 8;
+    private static final double ENEMY_SIZE = 6;
+
+    // Pre-rendered bullet sprites (core + glow), looked up once
+    private static final Image PLAYER_SPRITE = SpriteCache.bullet(Color.YELLOW, (int) PLAYER_SIZE);
+    private static final Image CRIT_SPRITE = SpriteCache.bullet(Color.ORANGE, (int) PLAYER_SIZE);
+    private static final Image ENEMY_SPRITE = SpriteCache.bullet(Color.RED, (int) ENEMY_SIZE);
+
+    private double[] x;
+    private double[] y;
+    private double[] prevX; // Position at the start of the tick, for render interpolation
+    private double[] prevY;
+    private double[] vx;
+    private double[] vy;
+    private double[] damage;
+    private int[] flags;
+    private int size;
+
+    public ProjectilePool(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        x = new double[capacity];
+        y = new double[capacity];
+        prevX = new double[capacity];
+        prevY = new double[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        damage = new double[capacity];
+        flags = new int[capacity];
+    }
+
+    /**
+     * Add a bullet with its top-left corner at (px, py).
+     * @return slot index of the new bullet
+     */
+    public int spawn(double px, double py, double velX, double velY,
+                     double dmg, boolean playerOwned, boolean critical) {
+        if (size == x.length) {
+            grow();
+        }
+        int i = size++;
+        x[i] = px;
+        y[i] = py;
+        prevX[i] = px;
+        prevY[i] = py;
+        vx[i] = velX;
+        vy[i] = velY;
+        damage[i] = dmg;
+        flags[i] = (playerOwned ? FLAG_PLAYER_OWNED : 0) | (critical ? FLAG_CRITICAL : 0);
+        return i;
+    }
+
+    /**
+     * Drop bullets killed since the last update, then move the rest.
+     * A bullet that left the arena stays alive until the next update, so collisions
+     * still sweep the step that carried it out; it is marked dead then and dropped after.
+     */
+    public void update(double deltaTime) {
+        removeDead();
+        for (int i = 0; i < size; i++) {
+            if (x[i] < -20 || x[i] > 820 || y[i] < -20 || y[i] > 620) {
+                flags[i] |= FLAG_DEAD;
+                continue;
+            }
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] += vx[i] * deltaTime;
+            y[i] += vy[i] * deltaTime;
+        }
+    }
+
+    /**
+     * Swap-remove every dead bullet. Order of live bullets is not preserved.
+     */
+    public void removeDead() {
+        int i = 0;
+        while (i < size) {
+            if ((flags[i] & FLAG_DEAD) != 0) {
+                int last = --size;
+                x[i] = x[last];
+                y[i] = y[last];
+                prevX[i] = prevX[last];
+                prevY[i] = prevY[last];
+                vx[i] = vx[last];
+                vy[i] = vy[last];
+                damage[i] = damage[last];
+                flags[i] = flags[last];
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Append every bullet of another pool, in its slot order.
+     * Used to merge per-worker spawn buffers back into the shared pool.
+     */
+    public void addAll(ProjectilePool other) {
+        int n = other.size;
+        while (size + n > x.length) {
+            grow();
+        }
+        System.arraycopy(other.x, 0, x, size, n);
+        System.arraycopy(other.y, 0, y, size, n);
+        System.arraycopy(other.prevX, 0, prevX, size, n);
+        System.arraycopy(other.prevY, 0, prevY, size, n);
+        System.arraycopy(other.vx, 0, vx, size, n);
+        System.arraycopy(other.vy, 0, vy, size, n);
+        System.arraycopy(other.damage, 0, damage, size, n);
+        System.arraycopy(other.flags, 0, flags, size, n);
+        size += n;
+    }
+
+    public void kill(int i) {
+        flags[i] |= FLAG_DEAD;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * AABB test of bullet i against an entity.
+     */
+    public boolean collidesWith(int i, Entity other) {
+        return collidesWith(i, other.getX(), other.getY(), other.getWidth(), other.getHeight());
+    }
+
+    /**
+     * AABB test of bullet i against a box with its top-left corner at (ox, oy).
+     */
+    public boolean collidesWith(int i, double ox, double oy, double ow, double oh) {
+        double s = getSize(i);
+        return x[i] < ox + ow &&
+               x[i] + s > ox &&
+               y[i] < oy + oh &&
+               y[i] + s > oy;
+    }
+
+    /**
+     * Swept AABB test of bullet i's last step against an entity's last step.
+     */
+    public double timeOfImpact(int i, Entity other) {
+        return timeOfImpact(i, other.getPrevX(), other.getPrevY(), other.getX(), other.getY(),
+                            other.getWidth(), other.getHeight());
+    }
+
+    /**
+     * Swept AABB test of bullet i's last step against a box of size ow x oh that moved
+     * from (ox0, oy0) to (ox1, oy1) over the same step. Both move linearly, so this is a
+     * point moving by the relative displacement against the box grown by the bullet size.
+     * @return fraction of the step [0, 1) at which they first overlap, or -1 if they never do
+     */
+    public double timeOfImpact(int i, double ox0, double oy0, double ox1, double oy1,
+                               double ow, double oh) {
+        double s = getSize(i);
+        double px = prevX[i] - ox0;
+        double py = prevY[i] - oy0;
+        double dx = (x[i] - prevX[i]) - (ox1 - ox0);
+        double dy = (y[i] - prevY[i]) - (oy1 - oy0);
+
+        double enter = 0;
+        double exit = 1;
+        // Overlap on an axis while -s < p + d * t < extent (strict, like collidesWith)
+        if (dx == 0) {
+            if (px <= -s || px >= ow) return -1;
+        } else {
+            double t0 = (-s - px) / dx;
+            double t1 = (ow - px) / dx;
+            enter = Math.max(enter, Math.min(t0, t1));
+            exit = Math.min(exit, Math.max(t0, t1));
+        }
+        if (dy == 0) {
+            if (py <= -s || py >= oh) return -1;
+        } else {
+            double t0 = (-s - py) / dy;
+            double t1 = (oh - py) / dy;
+            enter = Math.max(enter, Math.min(t0, t1));
+            exit = Math.min(exit, Math.max(t0, t1));
+        }
+        // The window is clamped to the step, so an empty window means no contact in it
+        return enter < exit ? enter : -1;
+    }
+
+    /**
+     * Pre-rendered sprite for projectile i: enemy, crit, or normal player shot.
+     */
+    public Image getSprite(int i) {
+        int f = flags[i];
+        if ((f & FLAG_PLAYER_OWNED) == 0) return ENEMY_SPRITE;
+        return (f & FLAG_CRITICAL) != 0 ? CRIT_SPRITE : PLAYER_SPRITE;
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+
+    // Getters
+    public int size() { return size; }
+    public double getX(int i) { return x[i]; }
+    public double getY(int i) { return y[i]; }
+    public double getPrevX(int i) { return prevX[i]; }
+    public double getPrevY(int i) { return prevY[i]; }
+    public double getVelocityX(int i) { return vx[i]; }
+    public double getVelocityY(int i) { return vy[i]; }
+    public double getDamage(int i) { return damage[i]; }
+    public double getSize(int i) { return (flags[i] & FLAG_PLAYER_OWNED) != 0 ? PLAYER_SIZE : ENEMY_SIZE; }
+    public double getCenterX(int i) { return x[i] + getSize(i) / 2; }
+    public double getCenterY(int i) { return y[i] + getSize(i) / 2; }
+    public boolean isAlive(int i) { return (flags[i] & FLAG_DEAD) == 0; }
+    public boolean isCritical(int i) { return (flags[i] & FLAG_CRITICAL) != 0; }
+    public boolean isPlayerOwned(int i) { return (flags[i] & FLAG_PLAYER_OWNED) != 0; }
+}
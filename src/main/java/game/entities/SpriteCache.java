@@ -0,0 +1,128 @@
+package game.entities;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-rendered sprites for enemies, bullets and the player.
+ * Each shape is rasterised once (antialiased) into an image compatible with the screen,
+ * so per-frame rendering is a plain drawImage blit instead of polygon/oval rasterisation.
+ *
+ * Every sprite has PADDING pixels of transparent border so antialiased edges and glows
+ * are not clipped; draw it at (x - PADDING, y - PADDING) for an entity at (x, y).
+ */
+public final class SpriteCache {
+    public static final int PADDING = 2;
+
+    private static final Map<Long, Image> enemies = new ConcurrentHashMap<>();
+    private static final Map<Long, Image> bullets = new ConcurrentHashMap<>();
+    private static final Map<Long, Image> players = new ConcurrentHashMap<>();
+
+    private SpriteCache() {}
+
+    /**
+     * Pentagon enemy sprite of the given color and size.
+     */
+    public static Image enemy(Color color, int size) {
+        Long key = key(color, size);
+        Image sprite = enemies.get(key);
+        if (sprite == null) {
+            sprite = createEnemy(color, size);
+            enemies.putIfAbsent(key, sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * Bullet sprite: solid core plus a translucent glow ring of the same color.
+     */
+    public static Image bullet(Color color, int size) {
+        Long key = key(color, size);
+        Image sprite = bullets.get(key);
+        if (sprite == null) {
+            sprite = createBullet(color, size);
+            bullets.putIfAbsent(key, sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * Player circle sprite of the given color (cyan normally, white while dashing).
+     */
+    public static Image player(Color color, int size) {
+        Long key = key(color, size);
+        Image sprite = players.get(key);
+        if (sprite == null) {
+            sprite = createCircle(color, size);
+            players.putIfAbsent(key, sprite);
+        }
+        return sprite;
+    }
+
+    private static Image createEnemy(Color color, int size) {
+        BufferedImage image = createImage(size + PADDING * 2, size + PADDING * 2);
+        Graphics2D g2d = begin(image);
+
+        // Same pentagon as the old per-frame render: radius = size / 2, first vertex up
+        int[] xPoints = new int[5];
+        int[] yPoints = new int[5];
+        double center = PADDING + size / 2.0;
+        double radius = size / 2.0;
+        for (int i = 0; i < 5; i++) {
+            double angle = Math.toRadians(-90 + (360.0 / 5) * i);
+            xPoints[i] = (int) Math.round(center + radius * Math.cos(angle));
+            yPoints[i] = (int) Math.round(center + radius * Math.sin(angle));
+        }
+        g2d.setColor(color);
+        g2d.fillPolygon(xPoints, yPoints, 5);
+        g2d.dispose();
+        return image;
+    }
+
+    private static Image createBullet(Color color, int size) {
+        BufferedImage image = createImage(size + PADDING * 2, size + PADDING * 2);
+        Graphics2D g2d = begin(image);
+        g2d.setColor(color);
+        g2d.fillOval(PADDING, PADDING, size, size);
+
+        // Glow
+        g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 100));
+        g2d.fillOval(0, 0, size + PADDING * 2, size + PADDING * 2);
+        g2d.dispose();
+        return image;
+    }
+
+    private static Image createCircle(Color color, int size) {
+        BufferedImage image = createImage(size + PADDING * 2, size + PADDING * 2);
+        Graphics2D g2d = begin(image);
+        g2d.setColor(color);
+        g2d.fillOval(PADDING, PADDING, size, size);
+        g2d.dispose();
+        return image;
+    }
+
+    /**
+     * Translucent image in the screen's native pixel layout where possible,
+     * plain ARGB when running headless.
+     */
+    private static BufferedImage createImage(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private static Graphics2D begin(BufferedImage image) {
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        return g2d;
+    }
+
+    private static Long key(Color color, int size) {
+        return ((long) color.getRGB() << 32) | size;
+    }
+}
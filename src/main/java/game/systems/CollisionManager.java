@@ -1,78 +1,207 @@
 package game.systems;
 
 import game.GameEngine;
+import game.ecs.EnemyWorld;
 import game.entities.*;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Handles all collision detection between entities.
- * Uses AABB collision detection.
+ * Uses a uniform-grid broadphase for bullets vs enemies and a swept AABB narrow phase:
+ * a bullet's whole step is tested against each enemy's step, so fast bullets and low
+ * tick rates do not let bullets tunnel through enemies. Bullet hits within a tick are
+ * applied in time-of-impact order; a bullet whose target was already killed earlier in
+ * the tick carries on to the next enemy on its path.
+ * Damage is applied immediately; sounds, shake, damage numbers and coins are emitted
+ * as GameEvents for the engine to apply after the loop.
  */
 public class CollisionManager {
-    private final GameEngine engine;
-    
+    private final GameEvents events;
+    private final SpatialGrid grid = new SpatialGrid();
+
+    // Pending bullet hits, a binary min-heap on (time of impact, bullet index)
+    private double[] hitTime = new double[64];
+    private int[] hitBullet = new int[64];
+    private int[] hitEnemy = new int[64];
+    private int hitCount;
+
+    // Result of the last findHit
+    private double foundTime;
+
+    // Broadphase statistics: last tick and running totals
+    private int pairsTested;
+    private int hits;
+    private long totalPairsTested;
+    private long totalHits;
+
     public CollisionManager(GameEngine engine) {
-        this.engine = engine;
+        this.events = engine.getGameEvents();
     }
-    
-    public void checkCollisions(Player player, List<Enemy> enemies, 
-                                List<Projectile> enemyProjectiles) {
-
-        // Player projectiles vs enemies
-        for (Projectile bullet : player.getProjectiles()) {
-            if (!bullet.isAlive()) continue;
-
-            for (Enemy enemy : enemies) {
-                if (enemy.isAlive() && bullet.collidesWith(enemy)) {
-
-                    enemy.takeDamage(
-                        bullet.getDamage(),
-                        bullet.isCritical()
-                    );
-
-                    // Play hit sound
-                    if (bullet.isCritical()) {
-                        engine.getSoundManager().playSound("hit_critical");
-                        // trigger screen shake on critical
-                        engine.triggerScreenShake(0.20, 8.0);
-                    } else {
-                        engine.getSoundManager().playSound("hit");
-                    }
 
-                    // spawn floating damage text
-                    engine.spawnDamageText(
-                        enemy.getCenterX(),
-                        enemy.getCenterY() - 10, // slightly above center
-                        (int) Math.round(bullet.getDamage()),
-                        bullet.isCritical()
-                    );
+    public void checkCollisions(Player player, EnemyWorld enemies,
+                                ProjectilePool enemyProjectiles) {
+        pairsTested = 0;
+        hits = 0;
 
-                    bullet.kill();
+        // Player projectiles vs enemies: earliest hit of every bullet, then resolve by time
+        grid.rebuild(enemies);
+        ProjectilePool bullets = player.getProjectiles();
+        hitCount = 0;
+        for (int b = 0; b < bullets.size(); b++) {
+            if (!bullets.isAlive(b)) continue;
+            int e = findHit(enemies, bullets, b);
+            if (e >= 0) {
+                pushHit(foundTime, b, e);
+            }
+        }
+        while (hitCount > 0) {
+            int b = hitBullet[0];
+            int e = hitEnemy[0];
+            popHit();
 
-                    if (!enemy.isAlive()) {
-                        player.addCoins(enemy.getCoinValue());
-                    }
-                    break;
+            if (!enemies.isAlive(e)) {
+                // Killed earlier this tick; the bullet flies on to whatever is behind it
+                int next = findHit(enemies, bullets, b);
+                if (next >= 0) {
+                    pushHit(foundTime, b, next);
                 }
+                continue;
+            }
+
+            hits++;
+            double damage = bullets.getDamage(b);
+            boolean isCrit = bullets.isCritical(b);
+            enemies.takeDamage(e, damage, isCrit);
+
+            // Damage number goes slightly above center
+            events.emit(isCrit ? GameEvents.CRIT_HIT : GameEvents.HIT,
+                        enemies.getCenterX(e), enemies.getCenterY(e) - 10, damage);
+
+            bullets.kill(b);
+
+            if (!enemies.isAlive(e)) {
+                events.emit(GameEvents.ENEMY_KILLED, enemies.getCenterX(e), enemies.getCenterY(e),
+                            enemies.getCoinValue(e));
             }
         }
+        totalPairsTested += pairsTested;
+        totalHits += hits;
 
         // Enemy projectiles vs player
-        for (Projectile bullet : enemyProjectiles) {
-            if (bullet.isAlive() && bullet.collidesWith(player)) {
-                player.takeDamage(bullet.getDamage());
-                engine.getSoundManager().playSound("player_damaged");
-                bullet.kill();
+        for (int i = 0; i < enemyProjectiles.size(); i++) {
+            if (enemyProjectiles.isAlive(i) && enemyProjectiles.timeOfImpact(i, player) >= 0) {
+                player.takeDamage(enemyProjectiles.getDamage(i));
+                events.emit(GameEvents.PLAYER_DAMAGED, player.getCenterX(), player.getCenterY(),
+                            enemyProjectiles.getDamage(i));
+                enemyProjectiles.kill(i);
             }
         }
 
         // Enemies vs player (body collision)
-        for (Enemy enemy : enemies) {
-            if (enemy.isAlive() && enemy.collidesWith(player)) {
-                player.takeDamage(enemy.getDamage());
-                engine.getSoundManager().playSound("player_damaged");
-                enemy.kill(); // Enemy dies on contact
+        for (int e = 0; e < enemies.size(); e++) {
+            if (enemies.isAlive(e) && enemies.overlaps(e, player)) {
+                player.takeDamage(enemies.getDamage(e));
+                events.emit(GameEvents.PLAYER_DAMAGED, player.getCenterX(), player.getCenterY(),
+                            enemies.getDamage(e));
+                enemies.kill(e); // Enemy dies on contact
             }
         }
     }
+
+    /**
+     * Narrow phase for one bullet: sweep it against the live enemies bucketed in the cells
+     * its step passes through, plus one cell of margin, and return the index of the one it
+     * reaches first (time in foundTime), or -1.
+     */
+    private int findHit(EnemyWorld enemies, ProjectilePool bullets, int b) {
+        double half = bullets.getSize(b) / 2;
+        double x0 = bullets.getPrevX(b) + half;
+        double y0 = bullets.getPrevY(b) + half;
+        double x1 = bullets.getCenterX(b);
+        double y1 = bullets.getCenterY(b);
+        int minCol = Math.max(0, grid.columnOf(Math.min(x0, x1)) - 1);
+        int maxCol = Math.min(grid.getColumns() - 1, grid.columnOf(Math.max(x0, x1)) + 1);
+        int minRow = Math.max(0, grid.rowOf(Math.min(y0, y1)) - 1);
+        int maxRow = Math.min(grid.getRows() - 1, grid.rowOf(Math.max(y0, y1)) + 1);
+
+        int best = -1;
+        double bestTime = Double.POSITIVE_INFINITY;
+        search:
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                int end = grid.getCellEnd(c, r);
+                for (int i = grid.getCellStart(c, r); i < end; i++) {
+                    int e = grid.getItem(i);
+                    pairsTested++;
+                    if (!enemies.isAlive(e)) continue;
+                    double size = enemies.getSize(e);
+                    double t = bullets.timeOfImpact(b, enemies.getPrevX(e), enemies.getPrevY(e),
+                                                    enemies.getX(e), enemies.getY(e), size, size);
+                    if (t >= 0 && t < bestTime) {
+                        bestTime = t;
+                        best = e;
+                        if (t == 0) {
+                            break search; // Overlapping from the start, nothing can come earlier
+                        }
+                    }
+                }
+            }
+        }
+        foundTime = bestTime;
+        return best;
+    }
+
+    private void pushHit(double time, int bullet, int enemy) {
+        if (hitCount == hitTime.length) {
+            int capacity = hitCount * 2;
+            hitTime = Arrays.copyOf(hitTime, capacity);
+            hitBullet = Arrays.copyOf(hitBullet, capacity);
+            hitEnemy = Arrays.copyOf(hitEnemy, capacity);
+        }
+        int i = hitCount++;
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!hitBefore(time, bullet, hitTime[parent], hitBullet[parent])) break;
+            setHit(i, hitTime[parent], hitBullet[parent], hitEnemy[parent]);
+            i = parent;
+        }
+        setHit(i, time, bullet, enemy);
+    }
+
+    private void popHit() {
+        int last = --hitCount;
+        double time = hitTime[last];
+        int bullet = hitBullet[last];
+        int enemy = hitEnemy[last];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= hitCount) break;
+            if (child + 1 < hitCount
+                    && hitBefore(hitTime[child + 1], hitBullet[child + 1], hitTime[child], hitBullet[child])) {
+                child++;
+            }
+            if (!hitBefore(hitTime[child], hitBullet[child], time, bullet)) break;
+            setHit(i, hitTime[child], hitBullet[child], hitEnemy[child]);
+            i = child;
+        }
+        setHit(i, time, bullet, enemy);
+    }
+
+    // Earlier impact first; ties go to the lower bullet index so the order is deterministic
+    private static boolean hitBefore(double timeA, int bulletA, double timeB, int bulletB) {
+        return timeA < timeB || (timeA == timeB && bulletA < bulletB);
+    }
+
+    private void setHit(int i, double time, int bullet, int enemy) {
+        hitTime[i] = time;
+        hitBullet[i] = bullet;
+        hitEnemy[i] = enemy;
+    }
+
+    // Broadphase statistics
+    public int getPairsTested() { return pairsTested; }
+    public int getHits() { return hits; }
+    public long getTotalPairsTested() { return totalPairsTested; }
+    public long getTotalHits() { return totalHits; }
 }
@@ -0,0 +1,149 @@
+package game.systems;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Always-on timing of simulation and render phases.
+ * Each phase keeps a ring of its most recent durations; percentiles are only computed
+ * when refresh() is called (by the overlay, a few times per second), so recording a
+ * sample is just a System.nanoTime() pair and an array store.
+ *
+ * Simulation phases are recorded by the game thread and render phases by the render
+ * thread. Readers may see a sample being overwritten, which only skews one sample.
+ */
+public class FrameProfiler {
+    private static final int SAMPLES = 512; // ~4s of ticks at 120 Hz, ~8s of frames at 60 FPS
+
+    public enum Phase {
+        TICK("Tick total"),
+        PLAYER("  Player"),
+        WAVES("  Waves"),
+        COLLISIONS("  Collisions"),
+        EVENTS("  Events"),
+        DAMAGE_TEXTS("  Damage texts"),
+        FRAME("Frame total"),
+        WORLD("  World"),
+        TEXTS("  Texts (paint)"),
+        SCREENS("  Screens"),
+        PRESENT("  Present");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() { return label; }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[][] samples = new long[PHASES.length][SAMPLES];
+    private final int[] cursor = new int[PHASES.length];
+    private final int[] count = new int[PHASES.length];
+
+    // Results of the last refresh()
+    private final long[] p50 = new long[PHASES.length];
+    private final long[] p99 = new long[PHASES.length];
+    private final long[] max = new long[PHASES.length];
+    private final long[] scratch = new long[SAMPLES];
+
+    // GC activity between the last two refreshes
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private long lastGcCount;
+    private long lastGcMillis;
+    private long lastRefreshNanos = System.nanoTime();
+    private long gcCount;
+    private long gcMillis;
+    private double refreshSeconds;
+
+    // Frame deadlines the active renderer missed: running total (render thread writes)
+    // and the share of it since the previous refresh
+    private volatile long framesMissed;
+    private long lastFramesMissed;
+    private long recentFramesMissed;
+
+    /**
+     * Record one duration for a phase.
+     */
+    public void record(Phase phase, long nanos) {
+        int p = phase.ordinal();
+        int i = cursor[p];
+        samples[p][i] = nanos;
+        cursor[p] = (i + 1) % SAMPLES;
+        if (count[p] < SAMPLES) {
+            count[p]++;
+        }
+    }
+
+    /**
+     * Count frame deadlines that passed without a fresh frame on screen.
+     * Called by the render thread only.
+     */
+    public void recordMissedFrames(long frames) {
+        framesMissed += frames;
+    }
+
+    /**
+     * Recompute p50/p99/max for every phase over the samples in its ring,
+     * and the GC collections and time spent since the previous refresh.
+     */
+    public void refresh() {
+        for (int p = 0; p < PHASES.length; p++) {
+            int n = count[p];
+            if (n == 0) {
+                p50[p] = p99[p] = max[p] = 0;
+                continue;
+            }
+            System.arraycopy(samples[p], 0, scratch, 0, n);
+            Arrays.sort(scratch, 0, n);
+            p50[p] = scratch[(n - 1) / 2];
+            p99[p] = scratch[(int) ((n - 1) * 0.99)];
+            max[p] = scratch[n - 1];
+        }
+
+        long totalCount = 0;
+        long totalMillis = 0;
+        for (GarbageCollectorMXBean gc : collectors) {
+            totalCount += Math.max(0, gc.getCollectionCount());
+            totalMillis += Math.max(0, gc.getCollectionTime());
+        }
+        long now = System.nanoTime();
+        gcCount = totalCount - lastGcCount;
+        gcMillis = totalMillis - lastGcMillis;
+        refreshSeconds = (now - lastRefreshNanos) / 1e9;
+        lastGcCount = totalCount;
+        lastGcMillis = totalMillis;
+        lastRefreshNanos = now;
+
+        long missed = framesMissed;
+        recentFramesMissed = missed - lastFramesMissed;
+        lastFramesMissed = missed;
+    }
+
+    /**
+     * Forget all samples, e.g. between benchmark runs.
+     */
+    public void reset() {
+        Arrays.fill(cursor, 0);
+        Arrays.fill(count, 0);
+    }
+
+    // Results of the last refresh(), in nanoseconds
+    public long getP50(Phase phase) { return p50[phase.ordinal()]; }
+    public long getP99(Phase phase) { return p99[phase.ordinal()]; }
+    public long getMax(Phase phase) { return max[phase.ordinal()]; }
+    public int getSampleCount(Phase phase) { return count[phase.ordinal()]; }
+
+    // GC activity over the last refresh interval
+    public long getGcCount() { return gcCount; }
+    public long getGcMillis() { return gcMillis; }
+    public double getRefreshSeconds() { return refreshSeconds; }
+
+    // Missed frames: over the last refresh interval, and since startup
+    public long getRecentFramesMissed() { return recentFramesMissed; }
+    public long getFramesMissed() { return framesMissed; }
+}
@@ -0,0 +1,53 @@
+package game.systems;
+
+import java.util.Arrays;
+
+/**
+ * Per-tick buffer of gameplay events (hits, crits, kills, player damage).
+ * Collision detection only appends compact records here; sound, shake, damage numbers
+ * and coins are applied once per tick by GameEngine, which can coalesce them.
+ * Events are stored as parallel primitive arrays, reused from tick to tick.
+ */
+public class GameEvents {
+    public static final int HIT = 0;           // Player bullet hit an enemy; value = damage
+    public static final int CRIT_HIT = 1;      // Critical hit; value = damage
+    public static final int ENEMY_KILLED = 2;  // value = coin reward
+    public static final int PLAYER_DAMAGED = 3; // value = damage taken
+    public static final int TYPE_COUNT = 4;
+
+    private int[] types = new int[64];
+    private double[] x = new double[64];
+    private double[] y = new double[64];
+    private double[] values = new double[64];
+    private int size;
+    private final int[] typeCounts = new int[TYPE_COUNT];
+
+    public void emit(int type, double ex, double ey, double value) {
+        if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        types[size] = type;
+        x[size] = ex;
+        y[size] = ey;
+        values[size] = value;
+        size++;
+        typeCounts[type]++;
+    }
+
+    public void clear() {
+        size = 0;
+        Arrays.fill(typeCounts, 0);
+    }
+
+    // Getters
+    public int size() { return size; }
+    public int getType(int i) { return types[i]; }
+    public double getX(int i) { return x[i]; }
+    public double getY(int i) { return y[i]; }
+    public double getValue(int i) { return values[i]; }
+    public int count(int type) { return typeCounts[type]; }
+}
@@ -3,79 +3,95 @@ package game.systems;
 import javax.sound.sampled.*;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
- * Low-latency hit sound player using SourceDataLine for <5ms playback delay.
- * Preloads all audio into memory and uses thread pooling for simultaneous playback.
+ * Low-latency hit sound player built around a single software mixer.
+ * Preloads all audio into memory and mixes every active voice into one persistent
+ * SourceDataLine from a dedicated real-time thread. The line and thread are opened on
+ * the first playHit, so nothing runs until a hit sound is actually played.
  * 
  * Features:
  * - Zero disk I/O during gameplay
- * - Supports 10+ simultaneous sounds
- * - Non-blocking playback
+ * - One output line for all sounds (no per-hit line open/drain/close)
+ * - Fixed voice cap; the oldest voice is stolen when all are busy
+ * - playHit() is a lock-free enqueue and never blocks the game thread; if the mixer has
+ *   fallen a full ring behind, the new trigger is dropped
  * - Automatic resource cleanup
  */
 public class HitSoundPlayer {
     
-    // Preloaded audio data (soundName -> PCM bytes)
-    private final Map<String, PreloadedSound> soundBank;
+    // All sounds are converted to this format at load time so they can be summed directly
+    private static final float SAMPLE_RATE = 44100f;
+    private static final int CHANNELS = 2;
+    private static final AudioFormat OUTPUT_FORMAT =
+        new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, SAMPLE_RATE, 16, CHANNELS, CHANNELS * 2, SAMPLE_RATE, false);
     
-    // Thread pool for non-blocking playback
-    private final ExecutorService playbackExecutor;
+    // Frames mixed per pass (~5.8ms); the line buffer holds a few of these
+    private static final int MIX_FRAMES = 256;
+    private static final int LINE_BUFFER_BLOCKS = 4;
     
-    // Scheduled executor for latency offset
-    private final ScheduledExecutorService scheduledExecutor;
+    // Maximum simultaneous voices
+    private static final int MAX_VOICES = 16;
+    
+    // Pending triggers: bounded lock-free ring of packed (sound index + 1, delay frames).
+    // Writers claim sequence numbers below readSeq + capacity; a slot reads 0 until published.
+    private static final int TRIGGER_CAPACITY = 64;
+    private final AtomicLongArray pendingTriggers = new AtomicLongArray(TRIGGER_CAPACITY);
+    private final AtomicLong triggerWriteSeq = new AtomicLong();
+    private final AtomicLong triggerReadSeq = new AtomicLong(); // Advanced by the mixer thread only
+    private final AtomicLong droppedTriggers = new AtomicLong();
+    
+    // Preloaded audio data
+    private final Map<String, Integer> soundIndex;
+    private PreloadedSound[] sounds = new PreloadedSound[0];
+    
+    // Voice state - owned by the mixer thread
+    private final int[] voiceSound = new int[MAX_VOICES];
+    private final int[] voicePosition = new int[MAX_VOICES];
+    private final int[] voiceDelay = new int[MAX_VOICES];
+    private final long[] voiceStartSeq = new long[MAX_VOICES];
+    private long voiceSeq;
+    
+    private SourceDataLine line;
+    private Thread mixerThread;
+    private volatile boolean running;
+    private final AtomicBoolean mixerClaimed = new AtomicBoolean(); // Set by the first playHit or shutdown
     
     // Master volume (0.0 to 1.0)
-    private float masterVolume = 0.7f;
+    private volatile float masterVolume = 0.7f;
     
     // Latency offset in milliseconds (negative = predictive, positive = delayed)
-    // Volatile for thread-safe reads across playback threads
+    // Volatile for thread-safe reads from the mixer thread
     private volatile int latencyOffsetMs = 0;
     
-    // Buffer size for low latency (smaller = lower latency)
-    private static final int BUFFER_SIZE = 512;
-    
     /**
-     * Container for preloaded audio data.
+     * Container for preloaded audio data (interleaved stereo samples at SAMPLE_RATE).
      */
     private static class PreloadedSound {
-        final byte[] audioData;
-        final AudioFormat format;
+        final short[] samples;
+        final int frames;
         
-        PreloadedSound(byte[] audioData, AudioFormat format) {
-            this.audioData = audioData;
-            this.format = format;
+        PreloadedSound(short[] samples) {
+            this.samples = samples;
+            this.frames = samples.length / CHANNELS;
         }
     }
     
     /**
-     * Initialize the hit sound player and preload all sounds.
+     * Initialize the hit sound player and preload all sounds. The mixer starts on first use.
      * 
      * @param soundDirectory Directory containing WAV files
      * @param soundNames Array of sound file names (without extension)
      */
     public HitSoundPlayer(String soundDirectory, String[] soundNames) {
-        this.soundBank = new HashMap<>();
-        // Cached thread pool reuses threads, perfect for short-lived audio tasks
-        this.playbackExecutor = Executors.newCachedThreadPool(r -> {
-            Thread t = new Thread(r);
-            t.setDaemon(true); // Don't prevent JVM shutdown
-            t.setPriority(Thread.MAX_PRIORITY); // High priority for low latency
-            return t;
-        });
-        // Scheduled executor for latency offset (predictive/delayed playback)
-        this.scheduledExecutor = Executors.newScheduledThreadPool(4, r -> {
-            Thread t = new Thread(r);
-            t.setDaemon(true);
-            t.setPriority(Thread.MAX_PRIORITY);
-            return t;
-        });
+        this.soundIndex = new HashMap<>();
+        Arrays.fill(voiceSound, -1);
         
         // Preload all sounds into memory
         for (String soundName : soundNames) {
@@ -84,7 +100,7 @@ public class HitSoundPlayer {
     }
     
     /**
-     * Load a WAV file into memory as raw PCM bytes.
+     * Load a WAV file into memory, converted to the mixer's output format.
      */
     private void loadSound(String directory, String soundName) {
         String[] extensions = {".wav", ".WAV"};
@@ -98,8 +114,8 @@ public class HitSoundPlayer {
                 AudioInputStream audioStream = AudioSystem.getAudioInputStream(soundFile);
                 AudioFormat baseFormat = audioStream.getFormat();
                 
-                // Convert to PCM_SIGNED if needed (standard format for SourceDataLine)
-                AudioFormat targetFormat = new AudioFormat(
+                // Convert to 16-bit signed little-endian at the file's own rate and channel count
+                AudioFormat decodedFormat = new AudioFormat(
                     AudioFormat.Encoding.PCM_SIGNED,
                     baseFormat.getSampleRate(),
                     16, // 16-bit
@@ -110,22 +126,26 @@ public class HitSoundPlayer {
                 );
                 
                 // Decode to target format
-                AudioInputStream decodedStream = AudioSystem.getAudioInputStream(targetFormat, audioStream);
+                AudioInputStream decodedStream = AudioSystem.getAudioInputStream(decodedFormat, audioStream);
                 
                 // Read ALL bytes into memory (no disk I/O during gameplay)
                 byte[] audioData = decodedStream.readAllBytes();
                 
-                // Store in memory
-                soundBank.put(soundName, new PreloadedSound(audioData, targetFormat));
-                
                 // Cleanup streams
                 decodedStream.close();
                 audioStream.close();
                 
+                // Resample to the mixer format and store in memory
+                short[] samples = toMixerFormat(audioData, decodedFormat.getChannels(), decodedFormat.getSampleRate());
+                PreloadedSound[] grown = Arrays.copyOf(sounds, sounds.length + 1);
+                grown[sounds.length] = new PreloadedSound(samples);
+                sounds = grown;
+                soundIndex.put(soundName, sounds.length - 1);
+                
                 System.out.println("[HitSoundPlayer] Preloaded: " + soundName + ext + 
                                  " (" + audioData.length + " bytes, " + 
-                                 targetFormat.getChannels() + " channels, " +
-                                 (int)targetFormat.getSampleRate() + " Hz)");
+                                 decodedFormat.getChannels() + " channels, " +
+                                 (int)decodedFormat.getSampleRate() + " Hz)");
                 return;
                 
             } catch (UnsupportedAudioFileException | IOException e) {
@@ -138,93 +158,187 @@ public class HitSoundPlayer {
     }
     
     /**
-     * Play a preloaded hit sound with minimal latency (<5ms).
-     * This method returns immediately and does not block.
+     * Convert 16-bit little-endian PCM to interleaved stereo at SAMPLE_RATE
+     * (linear interpolation; mono is duplicated to both channels).
+     */
+    private static short[] toMixerFormat(byte[] pcm, int channels, float sampleRate) {
+        int inFrames = pcm.length / (channels * 2);
+        if (inFrames == 0) {
+            return new short[0];
+        }
+        double step = sampleRate / SAMPLE_RATE;
+        int outFrames = (int) Math.max(1, Math.floor((inFrames - 1) / step) + 1);
+        short[] out = new short[outFrames * CHANNELS];
+        
+        for (int f = 0; f < outFrames; f++) {
+            double pos = f * step;
+            int i0 = Math.min(inFrames - 1, (int) pos);
+            int i1 = Math.min(inFrames - 1, i0 + 1);
+            double t = pos - i0;
+            for (int c = 0; c < CHANNELS; c++) {
+                int src = Math.min(c, channels - 1);
+                int a = readSample(pcm, i0 * channels + src);
+                int b = readSample(pcm, i1 * channels + src);
+                out[f * CHANNELS + c] = (short) Math.round(a + (b - a) * t);
+            }
+        }
+        return out;
+    }
+    
+    private static int readSample(byte[] pcm, int sampleIndex) {
+        int i = sampleIndex * 2;
+        return (short) ((pcm[i] & 0xFF) | (pcm[i + 1] << 8));
+    }
+    
+    /**
+     * Open the output line and start the real-time mixing thread.
+     * If no line is available (no audio device) playback is silently disabled.
+     */
+    private void startMixer() {
+        try {
+            DataLine.Info info = new DataLine.Info(SourceDataLine.class, OUTPUT_FORMAT);
+            line = (SourceDataLine) AudioSystem.getLine(info);
+            line.open(OUTPUT_FORMAT, MIX_FRAMES * OUTPUT_FORMAT.getFrameSize() * LINE_BUFFER_BLOCKS);
+            line.start();
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("[HitSoundPlayer] Audio line unavailable, hit sounds disabled");
+            line = null;
+            return;
+        }
+        
+        running = true;
+        mixerThread = new Thread(this::mixLoop, "HitSoundPlayer-mixer");
+        mixerThread.setDaemon(true); // Don't prevent JVM shutdown
+        mixerThread.setPriority(Thread.MAX_PRIORITY); // High priority for low latency
+        mixerThread.start();
+    }
+    
+    /**
+     * Play a preloaded hit sound with minimal latency.
+     * This method only enqueues a trigger for the mixer thread; it never blocks.
      * 
      * @param soundName Name of the sound to play (as registered during init)
      */
     public void playHit(String soundName) {
-        PreloadedSound sound = soundBank.get(soundName);
-        if (sound == null) {
+        Integer index = soundIndex.get(soundName);
+        if (index == null) {
             System.err.println("[HitSoundPlayer] Sound not loaded: " + soundName);
             return;
         }
+        // Claim the audio line only once something is actually played
+        if (mixerClaimed.compareAndSet(false, true)) {
+            startMixer();
+        }
+        if (!running) {
+            return;
+        }
         
         // Apply latency offset (negative = predictive, positive = delayed)
-        if (latencyOffsetMs == 0) {
-            // No offset - immediate playback
-            playbackExecutor.execute(() -> playbackTask(sound));
-        } else if (latencyOffsetMs < 0) {
-            // Negative offset = predictive (play EARLIER - not truly possible, but we can try to compensate)
-            // In practice, we play immediately and accept the limitation
-            playbackExecutor.execute(() -> playbackTask(sound));
-        } else {
-            // Positive offset = delayed playback
-            scheduledExecutor.schedule(() -> playbackTask(sound), latencyOffsetMs, TimeUnit.MILLISECONDS);
-        }
+        // Negative offsets cannot play earlier than now, so they play immediately
+        int delayFrames = latencyOffsetMs > 0 ? (int) (latencyOffsetMs * SAMPLE_RATE / 1000) : 0;
+        
+        // Claim a slot, unless the mixer has fallen a full ring behind: then drop this trigger
+        long seq;
+        do {
+            seq = triggerWriteSeq.get();
+            if (seq - triggerReadSeq.get() >= TRIGGER_CAPACITY) {
+                droppedTriggers.incrementAndGet();
+                return;
+            }
+        } while (!triggerWriteSeq.compareAndSet(seq, seq + 1));
+        pendingTriggers.set((int) (seq % TRIGGER_CAPACITY), ((long) (index + 1) << 32) | delayFrames);
     }
     
     /**
-     * Internal playback task - runs in separate thread.
-     * Creates a new SourceDataLine per sound for true simultaneous playback.
+     * Mixer thread: pick up new triggers, sum all active voices into one block and hand it
+     * to the line. The blocking write paces the loop to the audio clock.
      */
-    private void playbackTask(PreloadedSound sound) {
-        SourceDataLine line = null;
+    private void mixLoop() {
+        int[] mix = new int[MIX_FRAMES * CHANNELS];
+        byte[] out = new byte[MIX_FRAMES * OUTPUT_FORMAT.getFrameSize()];
         
-        try {
-            // Create a NEW line for this sound (allows simultaneous playback)
-            DataLine.Info info = new DataLine.Info(SourceDataLine.class, sound.format);
-            line = (SourceDataLine) AudioSystem.getLine(info);
-            
-            // Open with small buffer for low latency
-            line.open(sound.format, BUFFER_SIZE);
-            
-            // Apply volume control if available
-            applyVolume(line);
+        while (running) {
+            drainTriggers();
+            Arrays.fill(mix, 0);
             
-            // Start the line
-            line.start();
-            
-            // Write ALL audio data from memory (already preloaded, no I/O)
-            int bytesWritten = 0;
-            int chunkSize = BUFFER_SIZE;
-            
-            while (bytesWritten < sound.audioData.length) {
-                int bytesToWrite = Math.min(chunkSize, sound.audioData.length - bytesWritten);
-                int written = line.write(sound.audioData, bytesWritten, bytesToWrite);
-                bytesWritten += written;
+            for (int v = 0; v < MAX_VOICES; v++) {
+                if (voiceSound[v] >= 0) {
+                    mixVoice(v, mix);
+                }
             }
             
-            // Wait for playback to complete
-            line.drain();
-            
-        } catch (LineUnavailableException e) {
-            System.err.println("[HitSoundPlayer] Audio line unavailable");
-            e.printStackTrace();
-        } finally {
-            // Always cleanup resources
-            if (line != null) {
-                line.stop();
-                line.close();
+            float gain = masterVolume;
+            for (int i = 0; i < mix.length; i++) {
+                int sample = Math.round(mix[i] * gain);
+                sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sample));
+                out[i * 2] = (byte) sample;
+                out[i * 2 + 1] = (byte) (sample >> 8);
             }
+            line.write(out, 0, out.length);
+        }
+    }
+    
+    private void drainTriggers() {
+        long seq = triggerReadSeq.get();
+        while (true) {
+            // 0 = not published yet (or claimed but still being written); pick it up next pass
+            long packed = pendingTriggers.getAndSet((int) (seq % TRIGGER_CAPACITY), 0L);
+            if (packed == 0L) {
+                return;
+            }
+            // Free the slot for writers only after it has been cleared
+            triggerReadSeq.set(++seq);
+            startVoice((int) (packed >>> 32) - 1, (int) packed);
         }
     }
     
     /**
-     * Apply master volume to the audio line.
+     * Start a voice, stealing the oldest one if the voice cap is reached.
      */
-    private void applyVolume(SourceDataLine line) {
-        try {
-            if (line.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                FloatControl volumeControl = (FloatControl) line.getControl(FloatControl.Type.MASTER_GAIN);
-                float min = volumeControl.getMinimum();
-                float max = volumeControl.getMaximum();
-                // Convert 0.0-1.0 to dB range
-                float dB = min + (max - min) * masterVolume;
-                volumeControl.setValue(dB);
+    private void startVoice(int sound, int delayFrames) {
+        int slot = -1;
+        long oldest = Long.MAX_VALUE;
+        for (int v = 0; v < MAX_VOICES; v++) {
+            if (voiceSound[v] < 0) {
+                slot = v;
+                break;
+            }
+            if (voiceStartSeq[v] < oldest) {
+                oldest = voiceStartSeq[v];
+                slot = v;
             }
-        } catch (Exception e) {
-            // Volume control not available, continue without it
+        }
+        voiceSound[slot] = sound;
+        voicePosition[slot] = 0;
+        voiceDelay[slot] = delayFrames;
+        voiceStartSeq[slot] = voiceSeq++;
+    }
+    
+    private void mixVoice(int v, int[] mix) {
+        PreloadedSound sound = sounds[voiceSound[v]];
+        int frame = 0;
+        
+        // Delayed voices (positive latency offset) stay silent until their start
+        if (voiceDelay[v] > 0) {
+            int skip = Math.min(voiceDelay[v], MIX_FRAMES);
+            voiceDelay[v] -= skip;
+            frame = skip;
+        }
+        
+        int position = voicePosition[v];
+        int count = Math.min(MIX_FRAMES - frame, sound.frames - position);
+        short[] samples = sound.samples;
+        int src = position * CHANNELS;
+        int dst = frame * CHANNELS;
+        for (int i = 0; i < count * CHANNELS; i++) {
+            mix[dst + i] += samples[src + i];
+        }
+        
+        position += count;
+        if (position >= sound.frames) {
+            voiceSound[v] = -1; // Voice finished
+        } else {
+            voicePosition[v] = position;
         }
     }
     
@@ -245,7 +359,7 @@ public class HitSoundPlayer {
     /**
      * Set latency offset in milliseconds.
      * Negative values = predictive (plays as early as possible, limited by system)
-     * Positive values = delayed (schedules playback in the future)
+     * Positive values = delayed (voice starts that many milliseconds later in the mix)
      * 
      * @param offsetMs Latency offset (-100 to +100ms recommended)
      */
@@ -260,14 +374,32 @@ public class HitSoundPlayer {
         return latencyOffsetMs;
     }
     
+    /**
+     * Triggers dropped because the mixer was a full ring behind.
+     */
+    public long getDroppedTriggers() {
+        return droppedTriggers.get();
+    }
+    
     /**
      * Shutdown the player and release all resources.
      * Call this when closing the game.
      */
     public void shutdown() {
-        playbackExecutor.shutdown();
-        scheduledExecutor.shutdown();
-        soundBank.clear();
+        mixerClaimed.set(true); // A late playHit must not reopen the line
+        running = false;
+        if (mixerThread != null) {
+            try {
+                mixerThread.join(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (line != null) {
+            line.stop();
+            line.close();
+        }
+        soundIndex.clear();
         System.out.println("[HitSoundPlayer] Shutdown complete");
     }
 }
@@ -1,58 +1,162 @@
 package game.systems;
 
 import java.awt.event.*;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongBinaryOperator;
 
+/**
+ * Keyboard state. Key events arrive on the EDT and set bits in an atomic bitset
+ * indexed by key code; once per tick the game thread latches the pressed/released
+ * edges since the last tick (beginTick) and samples the gameplay keys into a key mask
+ * (sampleKeys). Gameplay reads only that latched mask, so a tick sees one consistent
+ * input and a recorded mask replays identically. Nothing here locks, boxes or allocates.
+ */
 public class InputManager implements KeyListener {
 
-    private Set<Character> pressedKeys;
-    private Set<Integer> pressedKeyCodes;
-    private boolean dashPressed;
+    // Gameplay keys in the per-tick mask
+    public static final int KEY_UP = 1;
+    public static final int KEY_DOWN = 2;
+    public static final int KEY_LEFT = 4;
+    public static final int KEY_RIGHT = 8;
+    public static final int KEY_DASH = 16;
 
-    public InputManager() {
-        this.pressedKeys = new HashSet<>();
-        this.pressedKeyCodes = new HashSet<>();
+    private static final int KEY_CODES = 1024; // Covers every standard VK_ code; higher codes are ignored
+    private static final int WORDS = KEY_CODES / 64;
+    private static final LongBinaryOperator SET = (word, bit) -> word | bit;
+    private static final LongBinaryOperator CLEAR = (word, bit) -> word & ~bit;
+
+    // Written by the EDT, read by the game thread
+    private final AtomicLongArray down = new AtomicLongArray(WORDS);
+    private final AtomicLongArray pressedSinceTick = new AtomicLongArray(WORDS);
+    private final AtomicLongArray releasedSinceTick = new AtomicLongArray(WORDS);
+
+    // Edges latched for the current tick (game thread only)
+    private final long[] tickPressed = new long[WORDS];
+    private final long[] tickReleased = new long[WORDS];
+    private int tickKeys; // Mask latched for the current tick (game thread only)
+
+    /**
+     * True while the key is held.
+     */
+    public boolean isKeyPressed(int keyCode) {
+        return inRange(keyCode) && (down.get(keyCode >>> 6) & (1L << keyCode)) != 0;
+    }
+
+    /**
+     * Letters and digits: the key code is the upper-case character.
+     */
+    public boolean isKeyPressed(char key) {
+        return isKeyPressed((int) Character.toUpperCase(key));
     }
 
     public boolean isDashPressed() {
-        return dashPressed;
+        return isKeyPressed(KeyEvent.VK_SHIFT);
     }
 
-    public boolean isKeyPressed(char key) {
-        return pressedKeys.contains(Character.toUpperCase(key));
+    /**
+     * Latch the key presses and releases since the previous tick.
+     * Called once per tick by the game thread, before sampleKeys.
+     */
+    public void beginTick() {
+        for (int w = 0; w < WORDS; w++) {
+            tickPressed[w] = pressedSinceTick.getAndSet(w, 0);
+            tickReleased[w] = releasedSinceTick.getAndSet(w, 0);
+        }
     }
 
-    public boolean isKeyPressed(int keyCode) {
-        return pressedKeyCodes.contains(keyCode);
+    /**
+     * True if the key went down since the previous tick.
+     */
+    public boolean wasPressedThisTick(int keyCode) {
+        return inRange(keyCode) && (tickPressed[keyCode >>> 6] & (1L << keyCode)) != 0;
     }
 
-    @Override
-    public void keyPressed(KeyEvent e) {
-        pressedKeys.add(Character.toUpperCase(e.getKeyChar()));
-        pressedKeyCodes.add(e.getKeyCode());
+    /**
+     * True if the key came up since the previous tick.
+     */
+    public boolean wasReleasedThisTick(int keyCode) {
+        return inRange(keyCode) && (tickReleased[keyCode >>> 6] & (1L << keyCode)) != 0;
+    }
+
+    /**
+     * Snapshot of the gameplay keys as a KEY_* mask. A key tapped and released
+     * between two ticks still counts as down for the tick that follows.
+     */
+    public int sampleKeys() {
+        int mask = 0;
+        if (isDownThisTick(KeyEvent.VK_W)) mask |= KEY_UP;
+        if (isDownThisTick(KeyEvent.VK_S)) mask |= KEY_DOWN;
+        if (isDownThisTick(KeyEvent.VK_A)) mask |= KEY_LEFT;
+        if (isDownThisTick(KeyEvent.VK_D)) mask |= KEY_RIGHT;
+        if (isDownThisTick(KeyEvent.VK_SHIFT)) mask |= KEY_DASH;
+        return mask;
+    }
+
+    private boolean isDownThisTick(int keyCode) {
+        return isKeyPressed(keyCode) || wasPressedThisTick(keyCode);
+    }
 
-        if (e.getKeyCode() == KeyEvent.VK_SHIFT) {
-            dashPressed = true;
+    /**
+     * Latch the key mask the current simulation tick runs with.
+     */
+    public void setTickKeys(int mask) {
+        this.tickKeys = mask;
+    }
+
+    /**
+     * True if the KEY_* key is held in the current tick's mask.
+     */
+    public boolean isTickKeyDown(int key) {
+        return (tickKeys & key) != 0;
+    }
+
+    /**
+     * Press a key without an AWT event (scripted / headless input).
+     */
+    public void press(int keyCode) {
+        if (!inRange(keyCode)) return;
+        int w = keyCode >>> 6;
+        long bit = 1L << keyCode;
+        // Auto-repeat sends more presses for a held key; only the first is an edge
+        if ((down.getAndAccumulate(w, bit, SET) & bit) == 0) {
+            pressedSinceTick.accumulateAndGet(w, bit, SET);
+        }
+    }
+
+    public void release(int keyCode) {
+        if (!inRange(keyCode)) return;
+        int w = keyCode >>> 6;
+        long bit = 1L << keyCode;
+        if ((down.getAndAccumulate(w, bit, CLEAR) & bit) != 0) {
+            releasedSinceTick.accumulateAndGet(w, bit, SET);
         }
     }
 
     @Override
-    public void keyReleased(KeyEvent e) {
-        pressedKeys.remove(Character.toUpperCase(e.getKeyChar()));
-        pressedKeyCodes.remove(e.getKeyCode());
+    public void keyPressed(KeyEvent e) {
+        press(e.getKeyCode());
+    }
 
-        if (e.getKeyCode() == KeyEvent.VK_SHIFT) {
-            dashPressed = false;
-        }
+    @Override
+    public void keyReleased(KeyEvent e) {
+        release(e.getKeyCode());
     }
 
     @Override
     public void keyTyped(KeyEvent e) {}
 
     public void clear() {
-        pressedKeys.clear();
-        pressedKeyCodes.clear();
-        dashPressed = false;
+        for (int w = 0; w < WORDS; w++) {
+            down.set(w, 0);
+            pressedSinceTick.set(w, 0);
+            releasedSinceTick.set(w, 0);
+            tickPressed[w] = 0;
+            tickReleased[w] = 0;
+        }
+        tickKeys = 0;
+    }
+
+    private static boolean inRange(int keyCode) {
+        return keyCode >= 0 && keyCode < KEY_CODES;
     }
 }
@@ -0,0 +1,245 @@
+package game.systems;
+
+import game.GameEngine;
+import game.ecs.EnemyWorld;
+import game.entities.DamageText;
+import game.entities.Player;
+import game.entities.ProjectilePool;
+import java.awt.Color;
+import java.awt.Image;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Everything the renderer needs from one simulation tick, copied into flat arrays at
+ * the end of the tick so painting never reads the live entity lists.
+ * Instances are recycled by RenderSnapshotBuffer; the arrays only ever grow.
+ */
+public class RenderSnapshot {
+    // Player
+    private double playerX, playerY, playerPrevX, playerPrevY, playerSize;
+    private Image playerSprite;
+    private double playerHealthRatio;
+    private double dashCooldownRatio;
+
+    // Enemies
+    private int enemyCount;
+    private double[] enemyX = new double[64];
+    private double[] enemyY = new double[64];
+    private double[] enemyPrevX = new double[64];
+    private double[] enemyPrevY = new double[64];
+    private double[] enemyWidth = new double[64];
+    private double[] enemyHealthRatio = new double[64];
+    private Image[] enemySprite = new Image[64];
+
+    // Projectiles: the player's first, then the enemies'
+    private int projectileCount;
+    private int playerProjectileCount;
+    private double[] projectileX = new double[256];
+    private double[] projectileY = new double[256];
+    private double[] projectilePrevX = new double[256];
+    private double[] projectilePrevY = new double[256];
+    private Image[] projectileSprite = new Image[256];
+
+    // Damage texts
+    private int textCount;
+    private double[] textX = new double[32];
+    private double[] textY = new double[32];
+    private String[] textLabel = new String[32];
+    private Color[] textColor = new Color[32];
+
+    // HUD
+    private int wave;
+    private double health;
+    private double maxHealth;
+    private int coins;
+    private int difficulty;
+    private boolean paused;
+    private double shakeX, shakeY;
+
+    // HUD labels, rebuilt only when the value they show changes
+    private String waveLabel, healthLabel, coinsLabel, difficultyLabel;
+    private int labelWave = -1, labelHealth = -1, labelMaxHealth = -1, labelCoins = -1, labelDifficulty = -1;
+
+    public RenderSnapshot() {
+        updateLabels(); // Never-captured snapshots still have labels to draw
+    }
+
+    /**
+     * Copy the state of the current tick. Called on the game thread only.
+     */
+    void capture(GameEngine engine) {
+        Player player = engine.getPlayer();
+        playerX = player.getX();
+        playerY = player.getY();
+        playerPrevX = player.getPrevX();
+        playerPrevY = player.getPrevY();
+        playerSize = player.getWidth();
+        playerSprite = player.getSprite();
+        health = player.getHealth();
+        maxHealth = player.getMaxHealth();
+        playerHealthRatio = health / maxHealth;
+        dashCooldownRatio = player.getDashCooldownRatio();
+        coins = player.getCoins();
+
+        WaveManager waveManager = engine.getWaveManager();
+        EnemyWorld enemies = waveManager.getEnemies();
+        ensureEnemyCapacity(enemies.size());
+        int n = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            if (!enemies.isAlive(i)) continue;
+            enemyX[n] = enemies.getX(i);
+            enemyY[n] = enemies.getY(i);
+            enemyPrevX[n] = enemies.getPrevX(i);
+            enemyPrevY[n] = enemies.getPrevY(i);
+            enemyWidth[n] = enemies.getSize(i);
+            enemyHealthRatio[n] = enemies.getHealthRatio(i);
+            enemySprite[n] = enemies.getSprite(i);
+            n++;
+        }
+        enemyCount = n;
+
+        ProjectilePool playerShots = player.getProjectiles();
+        ProjectilePool enemyShots = waveManager.getEnemyProjectiles();
+        ensureProjectileCapacity(playerShots.size() + enemyShots.size());
+        projectileCount = 0;
+        copyProjectiles(playerShots);
+        playerProjectileCount = projectileCount;
+        copyProjectiles(enemyShots);
+
+        List<DamageText> texts = engine.getDamageTexts();
+        ensureTextCapacity(texts.size());
+        textCount = 0;
+        for (int i = 0; i < texts.size(); i++) {
+            DamageText d = texts.get(i);
+            textX[textCount] = d.getX();
+            textY[textCount] = d.getY();
+            textLabel[textCount] = d.getLabel();
+            textColor[textCount] = d.getColor();
+            textCount++;
+        }
+
+        wave = waveManager.getCurrentWave();
+        difficulty = engine.getCurrentDifficulty();
+        paused = engine.isPaused();
+        shakeX = engine.getShakeX();
+        shakeY = engine.getShakeY();
+        updateLabels();
+    }
+
+    /**
+     * Rebuild the HUD labels whose values changed since this snapshot last built them.
+     */
+    private void updateLabels() {
+        if (wave != labelWave) {
+            labelWave = wave;
+            waveLabel = "Wave: " + wave + "/15";
+        }
+        int shownHealth = (int) health;
+        int shownMaxHealth = (int) maxHealth;
+        if (shownHealth != labelHealth || shownMaxHealth != labelMaxHealth) {
+            labelHealth = shownHealth;
+            labelMaxHealth = shownMaxHealth;
+            healthLabel = "Health: " + shownHealth + "/" + shownMaxHealth;
+        }
+        if (coins != labelCoins) {
+            labelCoins = coins;
+            coinsLabel = "Coins: " + coins;
+        }
+        if (difficulty != labelDifficulty) {
+            labelDifficulty = difficulty;
+            difficultyLabel = "Difficulty: " + difficulty;
+        }
+    }
+
+    private void copyProjectiles(ProjectilePool pool) {
+        int n = projectileCount;
+        for (int i = 0; i < pool.size(); i++) {
+            if (!pool.isAlive(i)) continue;
+            projectileX[n] = pool.getX(i);
+            projectileY[n] = pool.getY(i);
+            projectilePrevX[n] = pool.getPrevX(i);
+            projectilePrevY[n] = pool.getPrevY(i);
+            projectileSprite[n] = pool.getSprite(i);
+            n++;
+        }
+        projectileCount = n;
+    }
+
+    private void ensureEnemyCapacity(int count) {
+        if (count <= enemyX.length) return;
+        int capacity = Math.max(count, enemyX.length * 2);
+        enemyX = Arrays.copyOf(enemyX, capacity);
+        enemyY = Arrays.copyOf(enemyY, capacity);
+        enemyPrevX = Arrays.copyOf(enemyPrevX, capacity);
+        enemyPrevY = Arrays.copyOf(enemyPrevY, capacity);
+        enemyWidth = Arrays.copyOf(enemyWidth, capacity);
+        enemyHealthRatio = Arrays.copyOf(enemyHealthRatio, capacity);
+        enemySprite = Arrays.copyOf(enemySprite, capacity);
+    }
+
+    private void ensureProjectileCapacity(int count) {
+        if (count <= projectileX.length) return;
+        int capacity = Math.max(count, projectileX.length * 2);
+        projectileX = Arrays.copyOf(projectileX, capacity);
+        projectileY = Arrays.copyOf(projectileY, capacity);
+        projectilePrevX = Arrays.copyOf(projectilePrevX, capacity);
+        projectilePrevY = Arrays.copyOf(projectilePrevY, capacity);
+        projectileSprite = Arrays.copyOf(projectileSprite, capacity);
+    }
+
+    private void ensureTextCapacity(int count) {
+        if (count <= textX.length) return;
+        int capacity = Math.max(count, textX.length * 2);
+        textX = Arrays.copyOf(textX, capacity);
+        textY = Arrays.copyOf(textY, capacity);
+        textLabel = Arrays.copyOf(textLabel, capacity);
+        textColor = Arrays.copyOf(textColor, capacity);
+    }
+
+    // Getters
+    public double getPlayerX() { return playerX; }
+    public double getPlayerY() { return playerY; }
+    public double getPlayerPrevX() { return playerPrevX; }
+    public double getPlayerPrevY() { return playerPrevY; }
+    public double getPlayerSize() { return playerSize; }
+    public Image getPlayerSprite() { return playerSprite; }
+    public double getPlayerHealthRatio() { return playerHealthRatio; }
+    public double getDashCooldownRatio() { return dashCooldownRatio; }
+
+    public int getEnemyCount() { return enemyCount; }
+    public double getEnemyX(int i) { return enemyX[i]; }
+    public double getEnemyY(int i) { return enemyY[i]; }
+    public double getEnemyPrevX(int i) { return enemyPrevX[i]; }
+    public double getEnemyPrevY(int i) { return enemyPrevY[i]; }
+    public double getEnemyWidth(int i) { return enemyWidth[i]; }
+    public double getEnemyHealthRatio(int i) { return enemyHealthRatio[i]; }
+    public Image getEnemySprite(int i) { return enemySprite[i]; }
+
+    public int getProjectileCount() { return projectileCount; }
+    public int getPlayerProjectileCount() { return playerProjectileCount; }
+    public double getProjectileX(int i) { return projectileX[i]; }
+    public double getProjectileY(int i) { return projectileY[i]; }
+    public double getProjectilePrevX(int i) { return projectilePrevX[i]; }
+    public double getProjectilePrevY(int i) { return projectilePrevY[i]; }
+    public Image getProjectileSprite(int i) { return projectileSprite[i]; }
+
+    public int getTextCount() { return textCount; }
+    public double getTextX(int i) { return textX[i]; }
+    public double getTextY(int i) { return textY[i]; }
+    public String getTextLabel(int i) { return textLabel[i]; }
+    public Color getTextColor(int i) { return textColor[i]; }
+
+    public int getWave() { return wave; }
+    public double getHealth() { return health; }
+    public double getMaxHealth() { return maxHealth; }
+    public int getCoins() { return coins; }
+    public int getDifficulty() { return difficulty; }
+    public boolean isPaused() { return paused; }
+    public double getShakeX() { return shakeX; }
+    public double getShakeY() { return shakeY; }
+    public String getWaveLabel() { return waveLabel; }
+    public String getHealthLabel() { return healthLabel; }
+    public String getCoinsLabel() { return coinsLabel; }
+    public String getDifficultyLabel() { return difficultyLabel; }
+}
@@ -0,0 +1,40 @@
+package game.systems;
+
+import game.GameEngine;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple buffer handing RenderSnapshots from the game thread to the renderer.
+ * The game thread fills its private snapshot and swaps it into the shared slot;
+ * the renderer swaps the shared slot for its own only when a newer one is there.
+ * Neither side ever waits or copies, and a snapshot is never written while being drawn.
+ */
+public class RenderSnapshotBuffer {
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4; // Shared slot holds a snapshot the renderer has not taken yet
+
+    private final RenderSnapshot[] snapshots = {
+        new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()
+    };
+    private final AtomicInteger shared = new AtomicInteger(1);
+    private int writeIndex = 0; // Game thread only
+    private int readIndex = 2;  // Render thread only
+
+    /**
+     * Capture the engine's current tick and make it the latest snapshot.
+     */
+    public void publish(GameEngine engine) {
+        snapshots[writeIndex].capture(engine);
+        writeIndex = shared.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * The most recently published snapshot. It stays valid until the next acquire call.
+     */
+    public RenderSnapshot acquire() {
+        if ((shared.get() & FRESH) != 0) {
+            readIndex = shared.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return snapshots[readIndex];
+    }
+}
@@ -1,45 +1,110 @@
 package game.systems;
 
 import game.data.GameData;
+import game.data.SaveCodec;
 import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Handles saving and loading game progress.
- * Saves to a file in user's home directory.
+ * Saves to a file in user's home directory using the SaveCodec binary format.
+ * Writes go to a temp file that is then atomically renamed over the save, so a crash
+ * mid-write leaves the previous save intact. Legacy Java-serialized saves are read
+ * once and rewritten in the binary format.
+ * 
+ * The last loaded or saved GameData is kept in memory and is authoritative: the file is
+ * read once, and after that only written. The cached instance is shared, so callers must
+ * treat it as read-only and persist changes by building a new GameData and saving it.
  */
 public class SaveManager {
-    private static final String SAVE_FILE = System.getProperty("user.home") + 
-                                           "/.incremental_shooter_save.dat";
+    private static final String DEFAULT_SAVE_FILE = System.getProperty("user.home") + 
+                                                   "/.incremental_shooter_save.dat";
+    
+    private final String saveFile;
+    private volatile GameData cached; // null until first load, or after the save is deleted
+    
+    public SaveManager() {
+        this(DEFAULT_SAVE_FILE);
+    }
+    
+    /**
+     * @param saveFile path of the save file (headless runs use a throwaway file)
+     */
+    public SaveManager(String saveFile) {
+        this.saveFile = saveFile;
+    }
     
     public void saveGame(GameData data) {
-        try (ObjectOutputStream out = new ObjectOutputStream(
-                new FileOutputStream(SAVE_FILE))) {
-            out.writeObject(data);
+        cached = data;
+        Path target = Paths.get(saveFile);
+        Path temp = Paths.get(saveFile + ".tmp");
+        try {
+            try (FileOutputStream out = new FileOutputStream(temp.toFile())) {
+                out.write(SaveCodec.encode(data));
+                out.getFD().sync(); // Make sure the bytes are on disk before the rename
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
             System.err.println("Failed to save game: " + e.getMessage());
         }
     }
     
+    /**
+     * Current progression state. Only the first call (or the first after deleteSave)
+     * touches the disk; safe to call every frame.
+     */
     public GameData loadGame() {
-        File saveFile = new File(SAVE_FILE);
-        if (!saveFile.exists()) {
-            return new GameData(); // New game
+        GameData data = cached;
+        if (data == null) {
+            data = readFromDisk();
+            cached = data;
+        }
+        return data;
+    }
+    
+    private GameData readFromDisk() {
+        File file = new File(saveFile);
+        if (!file.exists() || file.length() == 0) {
+            return new GameData(); // New game (an empty file is a fresh temp save, not a corrupt one)
         }
         
-        try (ObjectInputStream in = new ObjectInputStream(
-                new FileInputStream(SAVE_FILE))) {
-            return (GameData) in.readObject();
+        try {
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            if (SaveCodec.isBinarySave(bytes)) {
+                return SaveCodec.decode(bytes);
+            }
+            
+            // Legacy save written with Java serialization - migrate it
+            GameData data = readLegacy(bytes);
+            saveGame(data);
+            System.out.println("Migrated save file to binary format");
+            return data;
         } catch (IOException | ClassNotFoundException e) {
             System.err.println("Failed to load game: " + e.getMessage());
             return new GameData(); // Return new game on error
         }
     }
     
+    private GameData readLegacy(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (GameData) in.readObject();
+        }
+    }
+    
     public void deleteSave() {
-        File saveFile = new File(SAVE_FILE);
-        if (saveFile.exists()) {
-            saveFile.delete();
+        File file = new File(saveFile);
+        if (file.exists()) {
+            file.delete();
         }
+        cached = null;
     }
     
     /**
@@ -10,6 +10,11 @@ import java.util.concurrent.CopyOnWriteArrayList;
 /**
  * Sound effect manager with volume control and clip pooling for rapid-fire sounds.
  * Loads and plays .wav and .mp3 files from resources/sounds/.
+ *
+ * Gameplay sounds go through trigger()/flush(): triggers of the same sound within one
+ * tick are merged into a single voice whose gain grows with the count, and each sound
+ * has a budget of concurrent voices. A trigger that finds its budget used up is dropped
+ * rather than restarting a clip that is still playing.
  */
 public class SoundManager {
     private Map<String, Clip> sounds;
@@ -20,33 +25,47 @@ public class SoundManager {
     // Sounds that need multiple instances for simultaneous playback
     private static final String[] POOLED_SOUNDS = {"hit", "hit_critical", "player_damaged"};
     private static final int POOL_SIZE = 5; // 5 instances per pooled sound
+    private static final String[] SOUND_NAMES = {
+        "click_button", "hit", "hit_critical", "player_damaged",
+        "wave_lose", "win_difficulty"
+    };
+    private static final float MAX_MERGE_BOOST_DB = 6.0f; // Cap on the gain added for merged triggers
+
+    // Per-tick trigger coalescing, indexed like SOUND_NAMES (game thread only)
+    private final Map<String, Integer> soundIndex = new HashMap<>();
+    private final int[] pendingTriggers = new int[SOUND_NAMES.length];
+    private final int[] voiceBudgets = new int[SOUND_NAMES.length];
+    private long mergedTriggers;
+    private long droppedTriggers;
     
     public SoundManager() {
+        this(true);
+    }
+    
+    /**
+     * @param loadSounds false creates a silent manager that never touches the disk or
+     *                   JavaSound (headless simulation)
+     */
+    public SoundManager(boolean loadSounds) {
         sounds = new HashMap<>();
         soundPools = new HashMap<>();
-        soundEnabled = true;
+        soundEnabled = loadSounds;
         masterVolume = 0.7f; // Default 70%
-        loadSounds();
+        for (int i = 0; i < SOUND_NAMES.length; i++) {
+            soundIndex.put(SOUND_NAMES[i], i);
+            // Overridable per sound, e.g. -Dgame.voices.hit=3
+            setVoiceBudget(SOUND_NAMES[i], Integer.getInteger("game.voices." + SOUND_NAMES[i], POOL_SIZE));
+        }
+        if (loadSounds) {
+            loadSounds();
+        }
     }
     
     private void loadSounds() {
         // Load all available sound files
-        String[] soundFiles = {
-            "click_button", "hit", "hit_critical", "player_damaged", 
-            "wave_lose", "win_difficulty"
-        };
-        
-        for (String soundName : soundFiles) {
+        for (String soundName : SOUND_NAMES) {
             // Check if this sound needs pooling
-            boolean needsPool = false;
-            for (String pooledSound : POOLED_SOUNDS) {
-                if (soundName.equals(pooledSound)) {
-                    needsPool = true;
-                    break;
-                }
-            }
-            
-            if (needsPool) {
+            if (isPooled(soundName)) {
                 // Create a pool of clips for this sound
                 List<Clip> pool = new CopyOnWriteArrayList<>();
                 for (int i = 0; i < POOL_SIZE; i++) {
@@ -69,6 +88,15 @@ public class SoundManager {
         }
     }
     
+    private static boolean isPooled(String soundName) {
+        for (String pooledSound : POOLED_SOUNDS) {
+            if (soundName.equals(pooledSound)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private Clip loadSingleClip(String soundName) {
         // Try .wav first, then .mp3
         String[] extensions = {".wav", ".mp3"};
@@ -144,7 +172,76 @@ public class SoundManager {
         }
     }
     
+    /**
+     * Queue a gameplay sound for this tick. Nothing reaches JavaSound until flush().
+     */
+    public void trigger(String soundName) {
+        if (!soundEnabled) return;
+        Integer index = soundIndex.get(soundName);
+        if (index != null) {
+            pendingTriggers[index]++;
+        }
+    }
+    
+    /**
+     * Start at most one voice per sound triggered since the last flush, louder the more
+     * triggers were merged into it. Called once per tick by the game thread.
+     */
+    public void flush() {
+        for (int i = 0; i < SOUND_NAMES.length; i++) {
+            int count = pendingTriggers[i];
+            if (count == 0) continue;
+            pendingTriggers[i] = 0;
+
+            Clip clip = findFreeVoice(SOUND_NAMES[i], voiceBudgets[i]);
+            if (clip == null) {
+                droppedTriggers += count;
+                continue;
+            }
+            mergedTriggers += count - 1;
+            // Twice the triggers, +3 dB (summed power of uncorrelated voices), capped
+            float boost = Math.min(MAX_MERGE_BOOST_DB, (float) (10 * Math.log10(count)));
+            playClip(clip, boost);
+        }
+    }
+    
+    /**
+     * A clip of this sound that is not playing, if fewer than budget are playing.
+     */
+    private Clip findFreeVoice(String soundName, int budget) {
+        List<Clip> pool = soundPools.get(soundName);
+        if (pool == null || pool.isEmpty()) {
+            Clip clip = sounds.get(soundName);
+            return clip != null && !clip.isRunning() ? clip : null;
+        }
+        int playing = 0;
+        Clip free = null;
+        for (Clip clip : pool) {
+            if (clip.isRunning()) {
+                playing++;
+            } else if (free == null) {
+                free = clip;
+            }
+        }
+        return playing < budget ? free : null;
+    }
+    
+    /**
+     * Limit how many voices of a sound may play at once (at most its pool size).
+     */
+    public void setVoiceBudget(String soundName, int voices) {
+        Integer index = soundIndex.get(soundName);
+        if (index != null) {
+            int max = isPooled(soundName) ? POOL_SIZE : 1;
+            voiceBudgets[index] = Math.max(1, Math.min(max, voices));
+        }
+    }
+    
     private void playClip(Clip clip) {
+        playClip(clip, 0);
+    }
+    
+    private void playClip(Clip clip, float boostDb) {
         if (clip == null) return;
         
         // Stop if already playing to prevent delay
@@ -162,14 +259,16 @@ public class SoundManager {
                 float max = volumeControl.getMaximum();
                 // Convert 0-1 range to dB (logarithmic scale)
                 float dB = min + (max - min) * masterVolume;
-                volumeControl.setValue(dB);
+                volumeControl.setValue(Math.min(max, dB + boostDb));
             } catch (Exception e) {
                 // Volume control not available for this clip
             }
             
             // Start immediately
             clip.start();
-    }    public void toggleSound() {
+    }
+    
+    public void toggleSound() {
         soundEnabled = !soundEnabled;
     }
     
@@ -198,4 +297,12 @@ public class SoundManager {
     public void adjustVolume(int delta) {
         setVolume(getVolume() + delta);
     }
+    
+    // Trigger coalescing statistics
+    public int getVoiceBudget(String soundName) {
+        Integer index = soundIndex.get(soundName);
+        return index != null ? voiceBudgets[index] : 0;
+    }
+    public long getMergedTriggers() { return mergedTriggers; }
+    public long getDroppedTriggers() { return droppedTriggers; }
 }
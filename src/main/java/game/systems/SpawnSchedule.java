@@ -0,0 +1,85 @@
+package game.systems;
+
+import game.data.DifficultyConfig;
+import game.ecs.EnemyArchetype;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * One wave's spawns compiled up front into a timeline sorted by spawn time:
+ * archetype, position and burst group of every enemy. WaveManager walks it with a
+ * cursor, so a tick only looks at the spawns that are due, and a long tick releases
+ * every spawn it covered instead of one.
+ *
+ * Spawns come in bursts of wave.burst.size enemies (1 by default) laid out in a row
+ * wave.burst.spacing pixels apart; burst g is due at (g + 1) * burst size * spawn interval
+ * seconds into the wave. Boss waves are a single boss.
+ */
+public class SpawnSchedule {
+    private static final double SPAWN_Y = -30;
+    private static final double MAX_X = 750;
+
+    private double[] times = new double[32];
+    private EnemyArchetype[] archetypes = new EnemyArchetype[32];
+    private double[] xs = new double[32];
+    private double[] ys = new double[32];
+    private int[] groups = new int[32];
+    private int size;
+
+    /**
+     * Replace the timeline with the given wave's. Draws positions and mage rolls from
+     * random in spawn order, the same sequence the old on-the-fly spawning used.
+     */
+    public void compile(DifficultyConfig config, int wave, Random random) {
+        size = 0;
+        int count = config.getEnemiesPerWave(wave);
+        double interval = config.getSpawnInterval(wave);
+        boolean bossWave = DifficultyConfig.isBossWave(wave);
+        int burstSize = bossWave ? 1 : DifficultyConfig.getBurstSize();
+        double spacing = DifficultyConfig.getBurstSpacing();
+
+        int group = 0;
+        for (int first = 0; first < count; first += burstSize, group++) {
+            int members = Math.min(burstSize, count - first);
+            double time = (group + 1) * burstSize * interval;
+            double centerX = random.nextDouble() * MAX_X;
+            for (int m = 0; m < members; m++) {
+                double x = centerX + (m - (members - 1) / 2.0) * spacing;
+                EnemyArchetype archetype;
+                if (bossWave) {
+                    archetype = EnemyArchetype.BOSS;
+                } else if (DifficultyConfig.hasMages(wave) && random.nextDouble() < DifficultyConfig.getMageChance()) {
+                    archetype = EnemyArchetype.MAGE;
+                } else {
+                    archetype = EnemyArchetype.BASIC;
+                }
+                add(time, archetype, Math.max(0, Math.min(MAX_X, x)), SPAWN_Y, group);
+            }
+        }
+    }
+
+    private void add(double time, EnemyArchetype archetype, double x, double y, int group) {
+        if (size == times.length) {
+            int capacity = size * 2;
+            times = Arrays.copyOf(times, capacity);
+            archetypes = Arrays.copyOf(archetypes, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            groups = Arrays.copyOf(groups, capacity);
+        }
+        times[size] = time;
+        archetypes[size] = archetype;
+        xs[size] = x;
+        ys[size] = y;
+        groups[size] = group;
+        size++;
+    }
+
+    // Getters
+    public int size() { return size; }
+    public double getTime(int i) { return times[i]; }
+    public EnemyArchetype getArchetype(int i) { return archetypes[i]; }
+    public double getX(int i) { return xs[i]; }
+    public double getY(int i) { return ys[i]; }
+    public int getGroup(int i) { return groups[i]; }
+}
@@ -1,5 +1,8 @@
 package game.systems;
 
+import game.data.UpgradeCosts;
+import java.util.Arrays;
+
 /**
  * Manages permanent (cash) and temporary (coins) upgrades.
  * Cash is spent on permanent upgrades, coins on temporary wave upgrades.
@@ -26,9 +29,8 @@ public class UpgradeManager {
     private int tempCritChanceLevel;
     private int tempCritDamageLevel;
     
-    // Upgrade costs (1.1x scaling per level)
-    private static final int BASE_COST = 50;
-    private static final double COST_MULTIPLIER = 1.1;
+    // Bumped on every level change so derived stats know when to recompute
+    private int version;
     
     public UpgradeManager() {
         fireRateLevel = 0;
@@ -63,6 +65,7 @@ public class UpgradeManager {
         tempBulletSpeedLevel = 0;
         tempCritChanceLevel = 0;
         tempCritDamageLevel = 0;
+        version++;
     }
     
     /**
@@ -110,21 +113,21 @@ public class UpgradeManager {
     }
     
     /**
-     * Calculate cost for next permanent upgrade level (1.1x per level for that specific upgrade).
+     * Calculate cost for next permanent upgrade level (from that upgrade's cost curve).
      * @param type The upgrade type
      * @param currentPermanentLevel The current permanent level of this upgrade
      */
     public int getUpgradeCost(UpgradeType type, int currentPermanentLevel) {
-        return (int)(BASE_COST * Math.pow(COST_MULTIPLIER, currentPermanentLevel));
+        return type.getCost(currentPermanentLevel);
     }
     
     /**
-     * Calculate cost for next temporary upgrade level (1.1x per temp level for that specific upgrade).
+     * Calculate cost for next temporary upgrade level (from that upgrade's cost curve).
      * @param type The upgrade type
      * @param currentTempLevel The current temporary level of this upgrade
      */
     public int getTempUpgradeCost(UpgradeType type, int currentTempLevel) {
-        return (int)(BASE_COST * Math.pow(COST_MULTIPLIER, currentTempLevel));
+        return type.getCost(currentTempLevel);
     }
     
     /**
@@ -173,6 +176,7 @@ public class UpgradeManager {
             case CRIT_CHANCE: tempCritChanceLevel++; break;
             case CRIT_DAMAGE: tempCritDamageLevel++; break;
         }
+        version++;
     }
     
     public int getLevel(UpgradeType type) {
@@ -217,10 +221,12 @@ public class UpgradeManager {
             case CRIT_CHANCE: critChanceLevel++; break;
             case CRIT_DAMAGE: critDamageLevel++; break;
         }
+        version++;
     }
     
     public void unlockSpecialAbility() {
         specialAbilityUnlocked = true;
+        version++;
     }
     
     // Getters - return combined permanent + temporary levels
@@ -233,9 +239,77 @@ public class UpgradeManager {
     public int getCritChanceLevel() { return critChanceLevel + tempCritChanceLevel; }
     public int getCritDamageLevel() { return critDamageLevel + tempCritDamageLevel; }
     public boolean hasSpecialAbility() { return specialAbilityUnlocked; }
+    public int getVersion() { return version; }
     
+    /**
+     * Each upgrade has its own cost curve: cost(level) = baseCost * multiplier^level,
+     * rounded down and saturating at Integer.MAX_VALUE. The values below are defaults;
+     * balance.properties can override them per type (upgrade.fire_rate.baseCost, ...). Costs are tabulated on first
+     * use and the table is extended when a higher level is asked for.
+     */
     public enum UpgradeType {
-        FIRE_RATE, DAMAGE, HEALTH, SPEED, BULLET_COUNT, BULLET_SPEED, CRIT_CHANCE, CRIT_DAMAGE
+        FIRE_RATE(50, 1.1),
+        DAMAGE(50, 1.1),
+        HEALTH(50, 1.1),
+        SPEED(50, 1.1),
+        BULLET_COUNT(50, 1.1),
+        BULLET_SPEED(50, 1.1),
+        CRIT_CHANCE(50, 1.1),
+        CRIT_DAMAGE(50, 1.1);
+
+        private final int baseCost;
+        private final double costMultiplier;
+        private volatile int[] costs = new int[0]; // Replaced, never modified, when extended
+        private volatile boolean saturated;        // Last entry is Integer.MAX_VALUE and so is every later level
+
+        UpgradeType(int baseCost, double costMultiplier) {
+            this.baseCost = UpgradeCosts.getBaseCost(name(), baseCost);
+            this.costMultiplier = UpgradeCosts.getMultiplier(name(), costMultiplier);
+        }
+
+        public int getCost(int level) {
+            level = Math.max(0, level);
+            int[] table = costs;
+            if (level < table.length) {
+                return table[level];
+            }
+            if (saturated) {
+                // The flag is published after the final table, so reading it after our stale
+                // copy of costs guarantees costs now holds the complete one
+                table = costs;
+                return level < table.length ? table[level] : Integer.MAX_VALUE;
+            }
+            table = extendCosts(level);
+            return level < table.length ? table[level] : Integer.MAX_VALUE;
+        }
+
+        private synchronized int[] extendCosts(int level) {
+            int[] table = costs;
+            if (level < table.length || saturated) {
+                return table;
+            }
+            int[] grown = Arrays.copyOf(table, Math.max(level + 1, Math.max(16, table.length * 2)));
+            int n = table.length;
+            boolean reachedMax = false;
+            while (n < grown.length) {
+                // StrictMath so every JVM tabulates the same integers
+                double cost = Math.floor(baseCost * StrictMath.pow(costMultiplier, n));
+                grown[n++] = cost >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) cost;
+                if (grown[n - 1] == Integer.MAX_VALUE && costMultiplier >= 1) {
+                    reachedMax = true;
+                    break;
+                }
+            }
+            table = n == grown.length ? grown : Arrays.copyOf(grown, n);
+            // Publish the table before the flag, so a reader that sees saturated also sees
+            // every finite cost below it
+            costs = table;
+            saturated = reachedMax;
+            return table;
+        }
+
+        public int getBaseCost() { return baseCost; }
+        public double getCostMultiplier() { return costMultiplier; }
     }
     
     // For save/load
@@ -249,5 +323,6 @@ public class UpgradeManager {
         this.critChanceLevel = data.getCritChanceLevel();
         this.critDamageLevel = data.getCritDamageLevel();
         this.specialAbilityUnlocked = data.hasSpecialAbility();
+        version++;
     }
 }
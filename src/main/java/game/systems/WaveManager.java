@@ -1,33 +1,67 @@
 package game.systems;
 
-import game.entities.*;
 import game.data.DifficultyConfig;
-import java.util.ArrayList;
-import java.util.List;
+import game.ecs.*;
+import game.entities.Player;
+import game.entities.ProjectilePool;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Manages wave progression and enemy spawning.
  * Handles 15 waves with scaling difficulty and boss waves every 5 waves.
+ * 
+ * Enemies live in an EnemyWorld and are advanced by MovementSystem then WeaponSystem.
+ * Large populations (Endless mode) are updated in parallel: the world is cut into
+ * contiguous index chunks run on the common ForkJoin pool, each chunk spawning into its
+ * own projectile buffer. Buffers are merged in chunk order, so the projectile pool ends
+ * up exactly as a serial update would leave it and runs stay deterministic.
  */
 public class WaveManager {
+    // Below this many enemies the fork/join overhead outweighs the gain
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1000;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final boolean PARALLEL_AVAILABLE = Runtime.getRuntime().availableProcessors() > 1;
+    
     private int currentWave;
-    private int difficulty;
     private DifficultyConfig difficultyConfig;
-    private List<Enemy> enemies;
-    private List<Projectile> enemyProjectiles;
+    private EnemyWorld enemies;
+    private ProjectilePool enemyProjectiles;
     
     private int enemiesPerWave;
     private int enemiesSpawned;
-    private double spawnTimer;
-    private double spawnInterval;
+    private final SpawnSchedule schedule = new SpawnSchedule();
+    private int scheduleCursor; // Next spawn in the schedule
+    private double waveTime;    // Seconds since the wave started
     private boolean waveActive;
+    private final Random random;
+    
+    // Parallel update
+    private int parallelThreshold = Integer.getInteger("game.parallelThreshold", DEFAULT_PARALLEL_THRESHOLD);
+    private EnemyChunk[] chunks;
+    private Player chunkPlayer;
+    private double chunkDeltaTime;
+    
+    // Stress mode: hold the population at fixed targets instead of running waves
+    private boolean stressMode;
+    private int stressEnemies;
+    private int stressProjectiles;
     
     public WaveManager(int difficulty) {
-        this.difficulty = difficulty;
+        this(difficulty, System.nanoTime());
+    }
+    
+    /**
+     * @param seed seed for spawn positions and enemy types, so a run can be replayed
+     */
+    public WaveManager(int difficulty, long seed) {
+        this.random = new Random(seed);
         this.difficultyConfig = DifficultyConfig.getConfig(difficulty);
         this.currentWave = 0;
-        this.enemies = new ArrayList<>();
-        this.enemyProjectiles = new ArrayList<>();
+        this.enemies = new EnemyWorld(64);
+        this.enemyProjectiles = new ProjectilePool(256);
         startNextWave();
     }
     
@@ -35,92 +69,136 @@ public class WaveManager {
         currentWave++;
         waveActive = true;
         enemiesSpawned = 0;
-        spawnTimer = 0;
-        
-        // Calculate enemies for this wave
-        boolean isBossWave = (currentWave % 5 == 0);
+        waveTime = 0;
         
-        if (isBossWave) {
-            enemiesPerWave = 1; // Just boss
-            spawnInterval = 0.5;
-        } else {
-            // More enemies each wave, scaled by difficulty
-            enemiesPerWave = 5 + (currentWave * 2) + (difficulty * 3);
-            spawnInterval = 1.5 / (1 + difficulty * 0.2); // Faster spawns on higher difficulty
-        }
+        // Compile the whole wave's spawns from the difficulty's wave tables
+        schedule.compile(difficultyConfig, currentWave, random);
+        scheduleCursor = 0;
+        enemiesPerWave = schedule.size();
     }
     
     public void update(double deltaTime, Player player) {
         if (!waveActive) return;
         
-        // Spawn enemies
-        spawnTimer += deltaTime;
-        if (enemiesSpawned < enemiesPerWave && spawnTimer >= spawnInterval) {
-            spawnEnemy();
-            spawnTimer = 0;
+        // Spawn every enemy that has come due, however long the tick was
+        waveTime += deltaTime;
+        while (!stressMode && scheduleCursor < schedule.size()
+                && schedule.getTime(scheduleCursor) <= waveTime) {
+            spawnEnemy(scheduleCursor++);
         }
         
         // Update all enemies
-        enemies.removeIf(e -> !e.isAlive());
-        for (Enemy enemy : enemies) {
-            enemy.updateMovement(deltaTime, player);
-            enemy.update(deltaTime);
-            
-            // Try to shoot
-            Projectile proj = enemy.tryShoot(player);
-            if (proj != null) {
-                enemyProjectiles.add(proj);
-                
-                // Boss shoots in pattern
-                if (enemy instanceof BossEnemy) {
-                    addBossProjectilePattern(enemy);
-                }
-            }
+        enemies.removeDead();
+        if (stressMode) {
+            topUpStressPopulation(-30);
+        }
+        if (enemies.size() >= parallelThreshold && PARALLEL_AVAILABLE) {
+            updateEnemiesParallel(deltaTime, player);
+        } else {
+            updateEnemies(0, enemies.size(), deltaTime, player, enemyProjectiles);
         }
         
         // Update enemy projectiles
-        enemyProjectiles.removeIf(p -> !p.isAlive());
-        for (Projectile p : enemyProjectiles) {
-            p.update(deltaTime);
-        }
+        enemyProjectiles.update(deltaTime);
         
         // Check if wave complete
-        if (enemiesSpawned >= enemiesPerWave && enemies.isEmpty()) {
+        if (!stressMode && enemiesSpawned >= enemiesPerWave && enemies.isEmpty()) {
             waveActive = false;
         }
     }
     
-    private void spawnEnemy() {
-        double x = Math.random() * 750;
-        double y = -30;
-        
-        boolean isBossWave = (currentWave % 5 == 0);
+    /**
+     * Move, age and fire enemies [from, to), spawning their shots into the given pool.
+     * Only touches those enemies and reads the player, so disjoint ranges can run concurrently.
+     */
+    private void updateEnemies(int from, int to, double deltaTime, Player player, ProjectilePool projectiles) {
+        MovementSystem.update(enemies, from, to, deltaTime);
+        WeaponSystem.update(enemies, from, to, deltaTime, player, projectiles);
+    }
+    
+    private void updateEnemiesParallel(double deltaTime, Player player) {
+        if (chunks == null) {
+            chunks = new EnemyChunk[ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD];
+            for (int c = 0; c < chunks.length; c++) {
+                chunks[c] = new EnemyChunk();
+            }
+        }
+        chunkDeltaTime = deltaTime;
+        chunkPlayer = player;
         
-        Enemy enemy;
-        if (isBossWave) {
-            enemy = new BossEnemy(x, y, currentWave);
-        } else if (currentWave >= 7 && Math.random() < 0.3) {
-            // 30% chance of mage after wave 7
-            enemy = new MageEnemy(x, y, currentWave);
-        } else {
-            enemy = new BasicEnemy(x, y, currentWave);
+        int n = enemies.size();
+        int chunkSize = (n + chunks.length - 1) / chunks.length;
+        for (int c = 0; c < chunks.length; c++) {
+            EnemyChunk chunk = chunks[c];
+            chunk.reinitialize();
+            chunk.from = Math.min(n, c * chunkSize);
+            chunk.to = Math.min(n, chunk.from + chunkSize);
+            chunk.spawned.clear();
         }
+        ForkJoinTask.invokeAll(chunks);
         
-        // Apply difficulty HP and damage multipliers
-        enemy.applyDifficultyMultiplier(difficultyConfig.getEnemyHPMultiplier());
+        // Merge in chunk (= enemy index) order, same order a serial update spawns in
+        for (EnemyChunk chunk : chunks) {
+            enemyProjectiles.addAll(chunk.spawned);
+        }
+        chunkPlayer = null;
+    }
+    
+    /**
+     * One contiguous slice of the enemy world plus its private spawn buffer.
+     */
+    private final class EnemyChunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ProjectilePool spawned = new ProjectilePool(64);
+        private int from;
+        private int to;
         
-        enemies.add(enemy);
+        @Override
+        protected void compute() {
+            updateEnemies(from, to, chunkDeltaTime, chunkPlayer, spawned);
+        }
+    }
+    
+    private void spawnEnemy(int i) {
+        // Difficulty scales HP and damage
+        enemies.spawn(schedule.getArchetype(i), schedule.getX(i), schedule.getY(i),
+                      currentWave, difficultyConfig.getEnemyHPMultiplier());
         enemiesSpawned++;
     }
     
-    private void addBossProjectilePattern(Enemy boss) {
-        // Boss shoots in 3 directions
-        for (int i = -1; i <= 1; i++) {
-            double angle = Math.toRadians(90 + (i * 20));
-            double vx = Math.cos(angle) * 150;
-            double vy = Math.sin(angle) * 150;
-            enemyProjectiles.add(new Projectile(boss.getCenterX(), boss.getCenterY(), 
-                                               vx, vy, boss.getDamage(), false));
+    /**
+     * Stress mode: keep about targetEnemies enemies and targetProjectiles enemy bullets
+     * alive at all times, replacing whatever is killed or leaves the arena. The wave never
+     * completes. The arena is filled immediately so the targets hold from the first tick.
+     */
+    public void enableStressMode(int targetEnemies, int targetProjectiles) {
+        stressMode = true;
+        stressEnemies = targetEnemies;
+        stressProjectiles = targetProjectiles;
+        waveActive = true;
+        topUpStressPopulation(Double.NaN);
+    }
+    
+    /**
+     * Spawn enemies and enemy bullets up to the stress targets.
+     * @param y spawn height, or NaN to scatter them over the upper part of the arena
+     */
+    private void topUpStressPopulation(double y) {
+        boolean scatter = Double.isNaN(y);
+        while (enemies.size() < stressEnemies) {
+            double x = random.nextDouble() * 750;
+            double ey = scatter ? random.nextDouble() * 450 - 30 : y;
+            EnemyArchetype type = random.nextDouble() < 0.3 ? EnemyArchetype.MAGE : EnemyArchetype.BASIC;
+            enemies.spawn(type, x, ey, currentWave, difficultyConfig.getEnemyHPMultiplier());
+            enemiesSpawned++;
+        }
+        while (enemyProjectiles.size() < stressProjectiles) {
+            double x = random.nextDouble() * 800;
+            double py = scatter ? random.nextDouble() * 600 : -10;
+            double vx = (random.nextDouble() - 0.5) * 100;
+            double vy = 100 + random.nextDouble() * 100;
+            enemyProjectiles.spawn(x, py, vx, vy, 1, false, false);
         }
     }
     
@@ -128,13 +206,15 @@ public class WaveManager {
         return !waveActive;
     }
     
-    public void handleEnemyKilled(Enemy enemy, Player player) {
-        player.addCoins(enemy.getCoinValue());
-    }
-    
     // Getters
     public int getCurrentWave() { return currentWave; }
-    public List<Enemy> getEnemies() { return enemies; }
-    public List<Projectile> getEnemyProjectiles() { return enemyProjectiles; }
+    public EnemyWorld getEnemies() { return enemies; }
+    public ProjectilePool getEnemyProjectiles() { return enemyProjectiles; }
     public boolean isWaveActive() { return waveActive; }
+    public boolean isStressMode() { return stressMode; }
+    
+    /**
+     * Enemy count from which updates run in parallel (-Dgame.parallelThreshold).
+     */
+    public void setParallelThreshold(int threshold) { this.parallelThreshold = threshold; }
 }
@@ -0,0 +1,129 @@
+package game.ui;
+
+import game.systems.FrameProfiler;
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Active rendering on a dedicated thread.
+ * Draws each frame into the back buffer of a Canvas BufferStrategy and shows it on a
+ * fixed cadence, instead of going through repaint() and the Swing EDT. The strategy
+ * flips or blits whole frames, so a frame is never seen half drawn, and the canvas
+ * repairs itself on expose from the same buffers.
+ *
+ * A frame counts as missed when its deadline passes while the previous frame is still
+ * being rendered or presented, i.e. that slot never gets a fresh image on screen.
+ * Missed frames are reported to the FrameProfiler (shown by the F3 overlay).
+ */
+public class ActiveRenderer implements Runnable {
+    private static final int BUFFERS = 2;
+
+    private final GamePanel panel;
+    private final Canvas canvas;
+    private final int width;
+    private final int height;
+    private final long framePeriod;
+    private final FrameProfiler profiler;
+
+    private volatile Thread renderThread;
+    private BufferStrategy strategy; // Render thread only
+
+    // Frame statistics
+    private volatile long framesPresented;
+    private volatile long lastPresentNanos; // Deadline to on-screen time of the last frame
+
+    public ActiveRenderer(GamePanel panel, int width, int height, int fps, FrameProfiler profiler) {
+        this.panel = panel;
+        this.width = width;
+        this.height = height;
+        this.framePeriod = 1000000000L / fps;
+        this.profiler = profiler;
+
+        canvas = new Canvas();
+        canvas.setPreferredSize(new Dimension(width, height));
+        canvas.setBackground(Color.BLACK);
+        canvas.setIgnoreRepaint(true); // Every pixel comes from the render thread
+        canvas.setFocusable(false);    // Keyboard focus stays on the panel
+    }
+
+    public void start() {
+        renderThread = new Thread(this, "ActiveRenderer");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    public void stop() {
+        renderThread = null;
+    }
+
+    @Override
+    public void run() {
+        long deadline = System.nanoTime() + framePeriod;
+
+        while (renderThread != null) {
+            long wait = deadline - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            if (renderAndPresent()) {
+                long presented = System.nanoTime();
+                lastPresentNanos = presented - deadline;
+                framesPresented++;
+            }
+
+            // Next deadline; count any deadlines that already went by as missed
+            deadline += framePeriod;
+            long now = System.nanoTime();
+            if (now > deadline) {
+                long skipped = (now - deadline) / framePeriod + 1;
+                profiler.recordMissedFrames(skipped);
+                deadline += skipped * framePeriod;
+            }
+        }
+    }
+
+    /**
+     * Render one frame into the strategy's back buffer and show it.
+     * @return false if the canvas is not on screen yet
+     */
+    private boolean renderAndPresent() {
+        if (!canvas.isDisplayable() || !canvas.isShowing()) {
+            return false;
+        }
+        if (strategy == null) {
+            canvas.createBufferStrategy(BUFFERS);
+            strategy = canvas.getBufferStrategy();
+        }
+
+        do {
+            do {
+                Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    g2d.setColor(Color.BLACK);
+                    g2d.fillRect(0, 0, width, height);
+                    panel.renderFrame(g2d);
+                } finally {
+                    g2d.dispose();
+                }
+            } while (strategy.contentsRestored());
+
+            long presentStart = System.nanoTime();
+            strategy.show();
+            Toolkit.getDefaultToolkit().sync();
+            profiler.record(FrameProfiler.Phase.PRESENT, System.nanoTime() - presentStart);
+        } while (strategy.contentsLost());
+
+        return true;
+    }
+
+    /**
+     * The component frames are shown on; the panel adds it as its only child.
+     */
+    public Canvas getCanvas() { return canvas; }
+
+    // Frame statistics
+    public long getFramesPresented() { return framesPresented; }
+    public long getLastPresentNanos() { return lastPresentNanos; }
+}
@@ -16,8 +16,8 @@ public class DifficultySelectUI {
         
         // Title
         g2d.setColor(Color.CYAN);
-        g2d.setFont(new Font("Arial", Font.BOLD, 32));
-        drawCenteredString(g2d, "SELECT DIFFICULTY", 800, 40);
+        g2d.setFont(TextCache.font(Font.BOLD, 32));
+        TextCache.drawCentered(g2d, "SELECT DIFFICULTY", 800, 40);
         
         // 3x2 grid of difficulty boxes
         int boxWidth = 240;
@@ -47,9 +47,9 @@ public class DifficultySelectUI {
         
         // Instructions
         g2d.setColor(Color.LIGHT_GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
-        drawCenteredString(g2d, "Press number key (1-6) or E for Endless", 800, 545);
-        drawCenteredString(g2d, "Press ESC to return to menu", 800, 570);
+        g2d.setFont(TextCache.font(Font.PLAIN, 16));
+        TextCache.drawCentered(g2d, "Press number key (1-6) or E for Endless", 800, 545);
+        TextCache.drawCentered(g2d, "Press ESC to return to menu", 800, 570);
     }
     
     private void drawDifficultyBox(Graphics2D g2d, int level, int x, int y, 
@@ -76,50 +76,50 @@ public class DifficultySelectUI {
         if (unlocked) {
             // Title
             g2d.setColor(Color.YELLOW);
-            g2d.setFont(new Font("Arial", Font.BOLD, 20));
+            g2d.setFont(TextCache.font(Font.BOLD, 20));
             String title = "Difficulty " + level;
-            drawCenteredStringInBox(g2d, title, x, width, textY);
+            TextCache.drawCentered(g2d, title, x, width, textY);
             
             textY += 20;
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 16));
-            drawCenteredStringInBox(g2d, config.getName(), x, width, textY);
+            g2d.setFont(TextCache.font(Font.BOLD, 16));
+            TextCache.drawCentered(g2d, config.getName(), x, width, textY);
             
             // Stats
             textY += 25;
             g2d.setColor(new Color(255, 150, 150));
-            g2d.setFont(new Font("Arial", Font.PLAIN, 13));
-            drawCenteredStringInBox(g2d, config.getHPModifierText(), x, width, textY);
+            g2d.setFont(TextCache.font(Font.PLAIN, 13));
+            TextCache.drawCentered(g2d, config.getHPModifierText(), x, width, textY);
             
             textY += 18;
             g2d.setColor(new Color(255, 200, 100));
-            drawCenteredStringInBox(g2d, config.getCoinsModifierText(), x, width, textY);
+            TextCache.drawCentered(g2d, config.getCoinsModifierText(), x, width, textY);
             
             textY += 18;
             g2d.setColor(new Color(150, 255, 150));
-            drawCenteredStringInBox(g2d, config.getCashModifierText(), x, width, textY);
+            TextCache.drawCentered(g2d, config.getCashModifierText(), x, width, textY);
             
             textY += 18;
             g2d.setColor(new Color(200, 150, 255));
-            g2d.setFont(new Font("Arial", Font.PLAIN, 11));
-            drawCenteredStringInBox(g2d, config.getSpecialEnemies(), x, width, textY);
+            g2d.setFont(TextCache.font(Font.PLAIN, 11));
+            TextCache.drawCentered(g2d, config.getSpecialEnemies(), x, width, textY);
             
             // Start button area
             int buttonY = y + height - 30;
             g2d.setColor(new Color(50, 150, 50));
             g2d.fillRect(x + 10, buttonY, width - 20, 20);
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 14));
-            drawCenteredStringInBox(g2d, "START", x, width, buttonY + 15);
+            g2d.setFont(TextCache.font(Font.BOLD, 14));
+            TextCache.drawCentered(g2d, "START", x, width, buttonY + 15);
             
         } else {
             // Locked
             g2d.setColor(new Color(100, 100, 100));
-            g2d.setFont(new Font("Arial", Font.BOLD, 18));
-            drawCenteredStringInBox(g2d, "LOCKED", x, width, y + height/2);
+            g2d.setFont(TextCache.font(Font.BOLD, 18));
+            TextCache.drawCentered(g2d, "LOCKED", x, width, y + height/2);
             
-            g2d.setFont(new Font("Arial", Font.PLAIN, 12));
-            drawCenteredStringInBox(g2d, "Complete Difficulty " + (level-1), x, width, y + height/2 + 20);
+            g2d.setFont(TextCache.font(Font.PLAIN, 12));
+            TextCache.drawCentered(g2d, "Complete Difficulty " + (level-1), x, width, y + height/2 + 20);
         }
     }
     
@@ -137,40 +137,28 @@ public class DifficultySelectUI {
         
         // Title
         g2d.setColor(new Color(255, 215, 0)); // Gold
-        g2d.setFont(new Font("Arial", Font.BOLD, 24));
-        drawCenteredStringInBox(g2d, "♾ ENDLESS MODE ♾", x, width, textY);
+        g2d.setFont(TextCache.font(Font.BOLD, 24));
+        TextCache.drawCentered(g2d, "♾ ENDLESS MODE ♾", x, width, textY);
         
         textY += 25;
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
-        drawCenteredStringInBox(g2d, config.getHPModifierText() + " & Damage", x, width, textY);
+        g2d.setFont(TextCache.font(Font.PLAIN, 14));
+        TextCache.drawCentered(g2d, config.getHPModifierText() + " & Damage", x, width, textY);
         
         textY += 18;
         g2d.setColor(new Color(255, 200, 100));
-        drawCenteredStringInBox(g2d, config.getCoinsModifierText(), x, width, textY);
+        TextCache.drawCentered(g2d, config.getCoinsModifierText(), x, width, textY);
         
         textY += 18;
         g2d.setColor(new Color(150, 255, 150));
-        drawCenteredStringInBox(g2d, config.getCashModifierText(), x, width, textY);
+        TextCache.drawCentered(g2d, config.getCashModifierText(), x, width, textY);
         
         // Start button
         int buttonY = y + height - 30;
         g2d.setColor(new Color(100, 50, 150));
         g2d.fillRect(x + 10, buttonY, width - 20, 22);
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 14));
-        drawCenteredStringInBox(g2d, "START (Press E)", x, width, buttonY + 16);
-    }
-    
-    private void drawCenteredStringInBox(Graphics2D g2d, String text, int boxX, int boxWidth, int y) {
-        FontMetrics fm = g2d.getFontMetrics();
-        int x = boxX + (boxWidth - fm.stringWidth(text)) / 2;
-        g2d.drawString(text, x, y);
-    }
-    
-    private void drawCenteredString(Graphics2D g2d, String text, int width, int y) {
-        FontMetrics fm = g2d.getFontMetrics();
-        int x = (width - fm.stringWidth(text)) / 2;
-        g2d.drawString(text, x, y);
+        g2d.setFont(TextCache.font(Font.BOLD, 14));
+        TextCache.drawCentered(g2d, "START (Press E)", x, width, buttonY + 16);
     }
 }
@@ -1,24 +1,38 @@
 package game.ui;
 
 import game.GameEngine;
+import game.systems.FrameProfiler;
+import game.systems.RenderSnapshot;
 import game.systems.UpgradeManager;
 import game.data.GameData;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.AffineTransform;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Main rendering panel with game loop.
- * Handles all rendering and frame updates at 60 FPS.
+ * Steps the simulation at a fixed GameEngine.TICK_RATE and renders at 60 FPS,
+ * interpolating entity positions between the last two ticks.
+ * 
+ * By default frames are drawn by an ActiveRenderer on its own thread, onto a Canvas
+ * that fills the panel. Start with
+ * -Dgame.render=passive to fall back to repaint() and paintComponent on the EDT.
  */
 public class GamePanel extends JPanel implements Runnable, KeyListener, MouseListener {
     private static final int PANEL_WIDTH = 800;
     private static final int PANEL_HEIGHT = 600;
     private static final int FPS = 60;
     private static final long FRAME_TIME = 1000000000 / FPS; // nanoseconds
+    private static final long TICK_TIME = 1000000000L / GameEngine.TICK_RATE; // nanoseconds
+    private static final int MAX_SUBSTEPS = 8; // Catch-up limit per loop, avoids the death spiral
     
-    private Thread gameThread;
+    private final boolean activeRendering = !"passive".equals(System.getProperty("game.render"));
+    
+    private volatile Thread gameThread;
+    private volatile long tickBoundaryNanos; // Real time the last completed tick corresponds to
+    private ActiveRenderer activeRenderer;
     private GameEngine engine;
     private MenuUI menuUI;
     private DifficultySelectUI difficultySelectUI;
@@ -26,12 +40,15 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
     private ShopUI shopUI;
     private SettingsUI settingsUI;
     private UpgradesUI upgradesUI;
+    private ProfilerOverlay profilerOverlay;
     
     public GamePanel() {
         setPreferredSize(new Dimension(PANEL_WIDTH, PANEL_HEIGHT));
         setBackground(Color.BLACK);
         setDoubleBuffered(true);
         setFocusable(true);
+        // Active rendering draws on its own canvas; ignore OS-triggered repaints
+        setIgnoreRepaint(activeRendering);
         
         engine = GameEngine.getInstance();
         engine.initialize(this);
@@ -51,8 +68,18 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
         shopUI = new ShopUI();
         settingsUI = new SettingsUI();
         upgradesUI = new UpgradesUI();
+        profilerOverlay = new ProfilerOverlay();
         
         startGameLoop();
+        if (activeRendering) {
+            activeRenderer = new ActiveRenderer(this, PANEL_WIDTH, PANEL_HEIGHT, FPS,
+                engine.getFrameProfiler());
+            setLayout(new BorderLayout());
+            add(activeRenderer.getCanvas(), BorderLayout.CENTER);
+            // The canvas gets the clicks; they should still focus the panel
+            activeRenderer.getCanvas().addMouseListener(this);
+            activeRenderer.start();
+        }
         
         // Request focus so keyboard input works
         requestFocusInWindow();
@@ -65,19 +92,45 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
     
     @Override
     public void run() {
-        long lastTime = System.nanoTime();
+        long previousTime = System.nanoTime();
+        long accumulator = 0;
+        long nextFrame = previousTime;
+        tickBoundaryNanos = previousTime;
         
         while (gameThread != null) {
             long currentTime = System.nanoTime();
-            long elapsedTime = currentTime - lastTime;
+            accumulator += currentTime - previousTime;
+            previousTime = currentTime;
             
-            if (elapsedTime >= FRAME_TIME) {
-                double deltaTime = elapsedTime / 1000000000.0; // Convert to seconds
-                
-                update(deltaTime);
+            // Run as many fixed ticks as the elapsed time covers
+            int steps = 0;
+            while (accumulator >= TICK_TIME && steps < MAX_SUBSTEPS) {
+                update(GameEngine.TICK_SECONDS);
+                accumulator -= TICK_TIME;
+                steps++;
+            }
+            // Too far behind (debugger, long GC): drop the backlog instead of spiralling
+            if (accumulator >= TICK_TIME) {
+                accumulator %= TICK_TIME;
+            }
+            tickBoundaryNanos = currentTime - accumulator;
+            
+            // Passive mode: ask Swing to paint; the active renderer runs on its own clock
+            if (!activeRendering && currentTime >= nextFrame) {
                 repaint();
-                
-                lastTime = currentTime;
+                nextFrame += FRAME_TIME;
+                if (nextFrame < currentTime) {
+                    nextFrame = currentTime + FRAME_TIME;
+                }
+            }
+            
+            // Sleep until the next tick is due instead of spinning
+            long wait = TICK_TIME - accumulator;
+            if (!activeRendering) {
+                wait = Math.min(wait, nextFrame - currentTime);
+            }
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
             }
         }
     }
@@ -86,10 +139,32 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
         engine.update(deltaTime);
     }
     
+    /**
+     * Fraction of a tick (0-1) elapsed since the last completed simulation tick.
+     */
+    private double getRenderAlpha() {
+        double alpha = (double) (System.nanoTime() - tickBoundaryNanos) / TICK_TIME;
+        return Math.max(0.0, Math.min(1.0, alpha));
+    }
+    
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
+        if (activeRendering) {
+            return; // The canvas covers the panel and is drawn by the render thread
+        }
+        renderFrame((Graphics2D) g);
+    }
+    
+    /**
+     * Draw one complete frame for the current game state.
+     * Called by paintComponent (passive mode) or the ActiveRenderer thread.
+     */
+    void renderFrame(Graphics2D g2d) {
+        FrameProfiler profiler = engine.getFrameProfiler();
+        long frameStart = System.nanoTime();
+        double renderAlpha = getRenderAlpha();
+        RenderSnapshot snapshot = engine.getRenderSnapshots().acquire();
         
         // Enable anti-aliasing for smoother shapes
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, 
@@ -97,8 +172,8 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
 
         // Apply screen shake translation if any
         AffineTransform old = g2d.getTransform();
-        double shakeX = engine.getShakeX();
-        double shakeY = engine.getShakeY();
+        double shakeX = snapshot.getShakeX();
+        double shakeY = snapshot.getShakeY();
         if (shakeX != 0.0 || shakeY != 0.0) {
             g2d.translate(shakeX, shakeY);
         }
@@ -114,11 +189,12 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
                 break;
             case PLAYING:
             case PAUSED:
-                gameUI.render(g2d, engine);
+                gameUI.render(g2d, snapshot, renderAlpha);
+                long worldEnd = System.nanoTime();
+                profiler.record(FrameProfiler.Phase.WORLD, worldEnd - frameStart);
                 // render damage texts on top of game UI so they are visible
-                for (var d : engine.getDamageTexts()) {
-                    d.render(g2d);
-                }
+                gameUI.renderDamageTexts(g2d, snapshot);
+                profiler.record(FrameProfiler.Phase.TEXTS, System.nanoTime() - worldEnd);
                 break;
             case SHOP:
                 shopUI.render(g2d, engine);
@@ -131,13 +207,22 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
                 break;
             case WIN:
             case GAME_OVER:
-                gameUI.render(g2d, engine);
+                gameUI.render(g2d, snapshot, renderAlpha);
                 renderGameEndScreen(g2d);
                 break;
         }
+        if (engine.getGameState() != GameEngine.GameState.PLAYING
+                && engine.getGameState() != GameEngine.GameState.PAUSED) {
+            profiler.record(FrameProfiler.Phase.SCREENS, System.nanoTime() - frameStart);
+        }
         
         // restore transform so UI overlays like system cursor etc. aren't shifted
         g2d.setTransform(old);
+        
+        if (profilerOverlay.isVisible()) {
+            profilerOverlay.render(g2d, engine, snapshot);
+        }
+        profiler.record(FrameProfiler.Phase.FRAME, System.nanoTime() - frameStart);
     }
     
     private void renderGameEndScreen(Graphics2D g2d) {
@@ -145,19 +230,23 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
         g2d.fillRect(0, 0, PANEL_WIDTH, PANEL_HEIGHT);
         
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 48));
+        g2d.setFont(TextCache.font(Font.BOLD, 48));
         
         String message = engine.getGameState() == GameEngine.GameState.WIN 
                         ? "VICTORY!" : "GAME OVER";
-        FontMetrics fm = g2d.getFontMetrics();
-        int x = (PANEL_WIDTH - fm.stringWidth(message)) / 2;
-        g2d.drawString(message, x, PANEL_HEIGHT / 2);
+        TextCache.drawCentered(g2d, message, PANEL_WIDTH, PANEL_HEIGHT / 2);
     }
     
     @Override
     public void keyPressed(KeyEvent e) {
         int key = e.getKeyCode();
         
+        // Profiler overlay works on every screen
+        if (key == KeyEvent.VK_F3) {
+            profilerOverlay.toggle();
+            return;
+        }
+        
         switch (engine.getGameState()) {
             case MENU:
                 GameData saveData = engine.getSaveManager().loadGame();
@@ -209,13 +298,13 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
                 
             case PLAYING:
                 if (key == KeyEvent.VK_P || key == KeyEvent.VK_ESCAPE) {
-                    engine.togglePause();
+                    engine.submitCommand(GameEngine.COMMAND_TOGGLE_PAUSE, 0);
                 }
                 break;
                 
             case PAUSED:
                 if (key == KeyEvent.VK_P || key == KeyEvent.VK_ESCAPE) {
-                    engine.togglePause();
+                    engine.submitCommand(GameEngine.COMMAND_TOGGLE_PAUSE, 0);
                 } else if (key == KeyEvent.VK_Q) {
                     engine.getSoundManager().playSound("click_button");
                     engine.quitToMenuFromGame();
@@ -224,9 +313,9 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
                 
             case SHOP:
                 if (key == KeyEvent.VK_SPACE) {
-                    engine.continueToNextWave();
+                    engine.submitCommand(GameEngine.COMMAND_CONTINUE, 0);
                 } else if (key >= KeyEvent.VK_1 && key <= KeyEvent.VK_8) {
-                    handleShopPurchase(key - KeyEvent.VK_1);
+                    engine.submitCommand(GameEngine.COMMAND_SHOP_PURCHASE, key - KeyEvent.VK_1);
                 }
                 break;
                 
@@ -308,7 +397,8 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
                 int cost = engine.getUpgradeManager().getUpgradeCost(type, 
                            engine.getUpgradeManager().getPermanentLevel(type));
                 
-                if (data.spendCash(cost)) {
+                // The loaded data is shared with the render path - don't mutate it
+                if (data.getCash() >= cost) {
                     // Increment the permanent upgrade level
                     engine.getUpgradeManager().incrementLevel(type);
                     
@@ -318,8 +408,8 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
                     GameData newData = new GameData(engine.getCurrentDifficulty(), 
                                                     engine.getUpgradeManager(),
                                                     latency);
-                    // Cash was already spent from 'data', now preserve what's left
-                    newData.addCash(data.getCash());
+                    // Preserve what's left after paying for the upgrade
+                    newData.addCash(data.getCash() - cost);
                     engine.getSaveManager().saveGame(newData);
                     engine.getSoundManager().playSound("click_button");
                 }
@@ -327,32 +417,6 @@ public class GamePanel extends JPanel implements Runnable, KeyListener, MouseLis
         }
     }
     
-    private void handleShopPurchase(int upgradeIndex) {
-        UpgradeManager.UpgradeType[] types = {
-            UpgradeManager.UpgradeType.FIRE_RATE,
-            UpgradeManager.UpgradeType.DAMAGE,
-            UpgradeManager.UpgradeType.HEALTH,
-            UpgradeManager.UpgradeType.SPEED,
-            UpgradeManager.UpgradeType.BULLET_COUNT,
-            UpgradeManager.UpgradeType.BULLET_SPEED,
-            UpgradeManager.UpgradeType.CRIT_CHANCE,
-            UpgradeManager.UpgradeType.CRIT_DAMAGE
-        };
-        
-        if (upgradeIndex >= 0 && upgradeIndex < types.length) {
-            UpgradeManager.UpgradeType type = types[upgradeIndex];
-            int currentTempLevel = engine.getUpgradeManager().getTempLevel(type);
-            int cost = engine.getUpgradeManager().getTempUpgradeCost(type, currentTempLevel);
-            
-            if (engine.getPlayer().spendCoins(cost)) {
-                engine.getUpgradeManager().purchaseTempUpgrade(type);
-                // Reset player to apply new upgrade values
-                engine.getPlayer().reset();
-                engine.getSoundManager().playSound("click_button");
-            }
-        }
-    }
-    
     @Override
     public void keyReleased(KeyEvent e) {
         // Not used for game state control
@@ -1,65 +1,108 @@
 package game.ui;
 
-import game.GameEngine;
-import game.entities.*;
+import game.entities.SpriteCache;
+import game.systems.RenderSnapshot;
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * In-game HUD and rendering.
+ * Draws only from a RenderSnapshot, never from the live entity lists the game thread mutates.
  */
 public class GameUI {
+    private static final int PAD = SpriteCache.PADDING;
+    private static final Color PAUSE_DIM = new Color(0, 0, 0, 180);
+
+    // Dash cooldown bar color at every alpha, so the fade does not allocate a Color per frame
+    private static final Color[] DASH_BAR_COLORS = new Color[256];
+    static {
+        for (int a = 0; a < DASH_BAR_COLORS.length; a++) {
+            DASH_BAR_COLORS[a] = new Color(100, 200, 255, a);
+        }
+    }
     
-    public void render(Graphics2D g2d, GameEngine engine) {
+    /**
+     * @param alpha fraction of a simulation tick since the snapshot's tick, for interpolation
+     */
+    public void render(Graphics2D g2d, RenderSnapshot s, double alpha) {
         // Render game entities
-        Player player = engine.getPlayer();
-        if (player != null) {
-            player.render(g2d);
-        }
+        renderPlayer(g2d, s, alpha);
+        renderProjectiles(g2d, s, 0, s.getPlayerProjectileCount(), alpha);
         
         // Render enemies and projectiles
-        if (engine.getWaveManager() != null) {
-            // Create defensive copies to avoid ConcurrentModificationException
-            List<Enemy> enemiesCopy = new ArrayList<>(engine.getWaveManager().getEnemies());
-            List<Projectile> projectilesCopy = new ArrayList<>(engine.getWaveManager().getEnemyProjectiles());
-            
-            for (Enemy enemy : enemiesCopy) {
-                if (enemy.isAlive()) {
-                    enemy.render(g2d);
-                }
-            }
-            
-            for (Projectile proj : projectilesCopy) {
-                if (proj.isAlive()) {
-                    proj.render(g2d);
-                }
-            }
+        for (int i = 0; i < s.getEnemyCount(); i++) {
+            double rx = s.getEnemyPrevX(i) + (s.getEnemyX(i) - s.getEnemyPrevX(i)) * alpha;
+            double ry = s.getEnemyPrevY(i) + (s.getEnemyY(i) - s.getEnemyPrevY(i)) * alpha;
+            double width = s.getEnemyWidth(i);
+            g2d.drawImage(s.getEnemySprite(i), (int) rx - PAD, (int) ry - PAD, null);
+
+            // Health bar
+            g2d.setColor(Color.RED);
+            g2d.fillRect((int) rx, (int) (ry - 8), (int) width, 4);
+            g2d.setColor(Color.GREEN);
+            g2d.fillRect((int) rx, (int) (ry - 8), (int) (width * s.getEnemyHealthRatio(i)), 4);
         }
+        renderProjectiles(g2d, s, s.getPlayerProjectileCount(), s.getProjectileCount(), alpha);
         
         // Render HUD
-        renderHUD(g2d, engine);
+        renderHUD(g2d, s);
         
         // Render pause overlay if paused
-        if (engine.isPaused()) {
+        if (s.isPaused()) {
             renderPauseOverlay(g2d);
         }
     }
+
+    /**
+     * Floating damage numbers, drawn on top of the HUD so they stay visible.
+     */
+    public void renderDamageTexts(Graphics2D g2d, RenderSnapshot s) {
+        g2d.setFont(TextCache.font(Font.BOLD, 14));
+        for (int i = 0; i < s.getTextCount(); i++) {
+            g2d.setColor(s.getTextColor(i));
+            TextCache.draw(g2d, s.getTextLabel(i), (int) s.getTextX(i), (int) s.getTextY(i));
+        }
+    }
+
+    private void renderPlayer(Graphics2D g2d, RenderSnapshot s, double alpha) {
+        double rx = s.getPlayerPrevX() + (s.getPlayerX() - s.getPlayerPrevX()) * alpha;
+        double ry = s.getPlayerPrevY() + (s.getPlayerY() - s.getPlayerPrevY()) * alpha;
+        double size = s.getPlayerSize();
+        g2d.drawImage(s.getPlayerSprite(), (int) rx - PAD, (int) ry - PAD, null);
+
+        // Health bar
+        g2d.setColor(Color.RED);
+        g2d.fillRect((int) rx, (int) (ry - 10), (int) size, 5);
+        g2d.setColor(Color.GREEN);
+        g2d.fillRect((int) rx, (int) (ry - 10), (int) (size * s.getPlayerHealthRatio()), 5);
+
+        // Dash cooldown indicator - fading bar below player
+        double cooldownPercent = s.getDashCooldownRatio();
+        if (cooldownPercent > 0) {
+            int barAlpha = (int) (255 * cooldownPercent); // Fades as cooldown decreases
+            g2d.setColor(DASH_BAR_COLORS[Math.min(barAlpha, 255)]);
+            g2d.fillRect((int) rx, (int) (ry + size + 2), (int) (size * (1.0 - cooldownPercent)), 3);
+        }
+    }
+
+    private void renderProjectiles(Graphics2D g2d, RenderSnapshot s, int from, int to, double alpha) {
+        for (int i = from; i < to; i++) {
+            double rx = s.getProjectilePrevX(i) + (s.getProjectileX(i) - s.getProjectilePrevX(i)) * alpha;
+            double ry = s.getProjectilePrevY(i) + (s.getProjectileY(i) - s.getProjectilePrevY(i)) * alpha;
+            g2d.drawImage(s.getProjectileSprite(i), (int) rx - PAD, (int) ry - PAD, null);
+        }
+    }
     
-    private void renderHUD(Graphics2D g2d, GameEngine engine) {
-        Player player = engine.getPlayer();
-        if (player == null) return;
-        
+    private void renderHUD(Graphics2D g2d, RenderSnapshot s) {
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        g2d.setFont(TextCache.font(Font.PLAIN, 16));
         
         // Top left - Wave and health
-        g2d.drawString("Wave: " + engine.getWaveManager().getCurrentWave() + "/15", 10, 20);
-        g2d.drawString("Health: " + (int)player.getHealth() + "/" + (int)player.getMaxHealth(), 10, 40);
-        g2d.drawString("Coins: " + player.getCoins(), 10, 60);
+        TextCache.draw(g2d, s.getWaveLabel(), 10, 20);
+        TextCache.draw(g2d, s.getHealthLabel(), 10, 40);
+        TextCache.draw(g2d, s.getCoinsLabel(), 10, 60);
         
         // Top right - Difficulty
-        g2d.drawString("Difficulty: " + engine.getCurrentDifficulty(), 680, 20);
+        TextCache.draw(g2d, s.getDifficultyLabel(), 680, 20);
         
         // Health bar at bottom
         int barWidth = 400;
@@ -71,33 +114,22 @@ public class GameUI {
         g2d.fillRect(barX, barY, barWidth, barHeight);
         
         g2d.setColor(Color.RED);
-        g2d.fillRect(barX, barY, (int)(barWidth * (player.getHealth() / player.getMaxHealth())), barHeight);
+        g2d.fillRect(barX, barY, (int) (barWidth * s.getPlayerHealthRatio()), barHeight);
         
         g2d.setColor(Color.WHITE);
         g2d.drawRect(barX, barY, barWidth, barHeight);
     }
     
     private void renderPauseOverlay(Graphics2D g2d) {
-        g2d.setColor(new Color(0, 0, 0, 180));
+        g2d.setColor(PAUSE_DIM);
         g2d.fillRect(0, 0, 800, 600);
         
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 48));
-        FontMetrics fm = g2d.getFontMetrics();
-        String text = "PAUSED";
-        int x = (800 - fm.stringWidth(text)) / 2;
-        g2d.drawString(text, x, 280);
-        
-        g2d.setFont(new Font("Arial", Font.PLAIN, 20));
-        text = "Press P to Resume";
-        fm = g2d.getFontMetrics();
-        x = (800 - fm.stringWidth(text)) / 2;
-        g2d.drawString(text, x, 340);
-        
-        g2d.setFont(new Font("Arial", Font.PLAIN, 20));
-        text = "Press Q to Quit to Menu";
-        fm = g2d.getFontMetrics();
-        x = (800 - fm.stringWidth(text)) / 2;
-        g2d.drawString(text, x, 370);
+        g2d.setFont(TextCache.font(Font.BOLD, 48));
+        TextCache.drawCentered(g2d, "PAUSED", 800, 280);
+
+        g2d.setFont(TextCache.font(Font.PLAIN, 20));
+        TextCache.drawCentered(g2d, "Press P to Resume", 800, 340);
+        TextCache.drawCentered(g2d, "Press Q to Quit to Menu", 800, 370);
     }
 }
@@ -0,0 +1,108 @@
+package game.ui;
+
+import game.GameEngine;
+import game.systems.FrameProfiler;
+import game.systems.FrameProfiler.Phase;
+import game.systems.RenderSnapshot;
+import game.systems.SoundManager;
+import java.awt.*;
+
+/**
+ * F3 overlay showing per-phase timings (p50/p99/max in microseconds),
+ * entity counts, GC activity and missed frames.
+ * The text is rebuilt only a few times per second; in between it just redraws
+ * the same strings, which TextCache has already laid out.
+ */
+public class ProfilerOverlay {
+    private static final long REFRESH_INTERVAL = 500000000L; // nanoseconds
+    private static final int X = 10;
+    private static final int Y = 75;
+    private static final int WIDTH = 330;
+    private static final int LINE_HEIGHT = 15;
+    private static final int[] COLUMNS = {X + 8, X + 150, X + 210, X + 270};
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+    private static final Phase[] PHASES = Phase.values();
+
+    private volatile boolean visible;
+    private long lastRefresh;
+    private final String[][] rows = new String[PHASES.length][4];
+    private String entityLine = "";
+    private String gcLine = "";
+    private String frameLine = "";
+    private String soundLine = "";
+
+    public void toggle() {
+        visible = !visible;
+        lastRefresh = 0; // Fresh numbers as soon as it opens
+    }
+
+    public boolean isVisible() { return visible; }
+
+    public void render(Graphics2D g2d, GameEngine engine, RenderSnapshot snapshot) {
+        long now = System.nanoTime();
+        if (lastRefresh == 0 || now - lastRefresh >= REFRESH_INTERVAL) {
+            refresh(engine, snapshot);
+            lastRefresh = now;
+        }
+
+        int height = (PHASES.length + 6) * LINE_HEIGHT + 8;
+        g2d.setColor(BACKGROUND);
+        g2d.fillRect(X, Y, WIDTH, height);
+
+        g2d.setFont(TextCache.font(Font.BOLD, 12));
+        g2d.setColor(Color.CYAN);
+        int y = Y + LINE_HEIGHT;
+        TextCache.draw(g2d, "Phase (us)", COLUMNS[0], y);
+        TextCache.draw(g2d, "p50", COLUMNS[1], y);
+        TextCache.draw(g2d, "p99", COLUMNS[2], y);
+        TextCache.draw(g2d, "max", COLUMNS[3], y);
+
+        g2d.setFont(TextCache.font(Font.PLAIN, 12));
+        g2d.setColor(Color.WHITE);
+        for (String[] row : rows) {
+            y += LINE_HEIGHT;
+            for (int c = 0; c < COLUMNS.length; c++) {
+                TextCache.draw(g2d, row[c], COLUMNS[c], y);
+            }
+        }
+
+        g2d.setColor(Color.LIGHT_GRAY);
+        y += LINE_HEIGHT + 4;
+        TextCache.draw(g2d, entityLine, COLUMNS[0], y);
+        y += LINE_HEIGHT;
+        TextCache.draw(g2d, gcLine, COLUMNS[0], y);
+        y += LINE_HEIGHT;
+        TextCache.draw(g2d, frameLine, COLUMNS[0], y);
+        y += LINE_HEIGHT;
+        TextCache.draw(g2d, soundLine, COLUMNS[0], y);
+    }
+
+    private void refresh(GameEngine engine, RenderSnapshot snapshot) {
+        FrameProfiler profiler = engine.getFrameProfiler();
+        profiler.refresh();
+
+        for (int p = 0; p < PHASES.length; p++) {
+            Phase phase = PHASES[p];
+            rows[p][0] = phase.getLabel();
+            rows[p][1] = micros(profiler.getP50(phase));
+            rows[p][2] = micros(profiler.getP99(phase));
+            rows[p][3] = micros(profiler.getMax(phase));
+        }
+
+        int playerBullets = snapshot.getPlayerProjectileCount();
+        int enemyBullets = snapshot.getProjectileCount() - playerBullets;
+        entityLine = "Enemies " + snapshot.getEnemyCount() + "   Bullets " + playerBullets + " / " + enemyBullets
+            + "   Texts " + snapshot.getTextCount();
+        gcLine = String.format("GC %d collections, %d ms in %.1f s",
+            profiler.getGcCount(), profiler.getGcMillis(), profiler.getRefreshSeconds());
+        frameLine = "Frames missed " + profiler.getRecentFramesMissed()
+            + " (" + profiler.getFramesMissed() + " total)";
+        SoundManager sound = engine.getSoundManager();
+        soundLine = "Sound triggers merged " + sound.getMergedTriggers()
+            + ", dropped " + sound.getDroppedTriggers();
+    }
+
+    private static String micros(long nanos) {
+        return String.format("%.1f", nanos / 1000.0);
+    }
+}
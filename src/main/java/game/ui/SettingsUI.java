@@ -14,30 +14,30 @@ public class SettingsUI {
         
         // Title
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 36));
-        drawCenteredString(g2d, "SETTINGS", 800, 50);
+        g2d.setFont(TextCache.font(Font.BOLD, 36));
+        TextCache.drawCentered(g2d, "SETTINGS", 800, 50);
         
         // Sound toggle
-        g2d.setFont(new Font("Arial", Font.PLAIN, 24));
+        g2d.setFont(TextCache.font(Font.PLAIN, 24));
         String soundStatus = engine.getSoundManager().isSoundEnabled() ? "ON" : "OFF";
         Color soundColor = engine.getSoundManager().isSoundEnabled() ? Color.GREEN : Color.RED;
         g2d.setColor(Color.WHITE);
-        drawCenteredString(g2d, "Sound: ", 800, 150);
+        TextCache.drawCentered(g2d, "Sound: ", 800, 150);
         g2d.setColor(soundColor);
-        g2d.drawString(soundStatus, 450, 150);
+        TextCache.draw(g2d, soundStatus, 450, 150);
         
         g2d.setColor(Color.LIGHT_GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 18));
-        drawCenteredString(g2d, "Press T to toggle", 800, 180);
+        g2d.setFont(TextCache.font(Font.PLAIN, 18));
+        TextCache.drawCentered(g2d, "Press T to toggle", 800, 180);
         
         // Volume slider
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 24));
-        drawCenteredString(g2d, "Master Volume", 800, 250);
+        g2d.setFont(TextCache.font(Font.PLAIN, 24));
+        TextCache.drawCentered(g2d, "Master Volume", 800, 250);
         
         int volume = engine.getSoundManager().getVolume();
-        g2d.setFont(new Font("Arial", Font.BOLD, 20));
-        drawCenteredString(g2d, volume + "%", 800, 280);
+        g2d.setFont(TextCache.font(Font.BOLD, 20));
+        TextCache.drawCentered(g2d, volume + "%", 800, 280);
         
         // Volume bar
         int barWidth = 400;
@@ -60,26 +60,26 @@ public class SettingsUI {
         
         // Instructions
         g2d.setColor(Color.LIGHT_GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 18));
-        drawCenteredString(g2d, "Use LEFT/RIGHT arrow keys to adjust volume", 800, 350);
-        drawCenteredString(g2d, "Press - / + to adjust by 1%", 800, 380);
+        g2d.setFont(TextCache.font(Font.PLAIN, 18));
+        TextCache.drawCentered(g2d, "Use LEFT/RIGHT arrow keys to adjust volume", 800, 350);
+        TextCache.drawCentered(g2d, "Press - / + to adjust by 1%", 800, 380);
         
         // Audio Latency slider (only if HitSoundPlayer is initialized)
         if (engine.getHitSoundPlayer() != null) {
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.PLAIN, 24));
-            drawCenteredString(g2d, "Audio Latency", 800, 430);
+            g2d.setFont(TextCache.font(Font.PLAIN, 24));
+            TextCache.drawCentered(g2d, "Audio Latency", 800, 430);
             
             int latency = engine.getHitSoundPlayer().getLatencyOffset();
             String latencyText = latency < 0 ? latency + "ms (Predictive)" : 
                                 latency > 0 ? "+" + latency + "ms (Delayed)" :
                                 latency + "ms (Instant)";
-            g2d.setFont(new Font("Arial", Font.BOLD, 20));
+            g2d.setFont(TextCache.font(Font.BOLD, 20));
             Color latencyColor = latency < 0 ? new Color(100, 200, 255) : // Blue for predictive
                                 latency > 0 ? new Color(255, 150, 100) :    // Orange for delayed
                                 Color.GREEN;                                 // Green for instant
             g2d.setColor(latencyColor);
-            drawCenteredString(g2d, latencyText, 800, 460);
+            TextCache.drawCentered(g2d, latencyText, 800, 460);
             
             // Latency bar (-100 to +100)
             int latBarWidth = 400;
@@ -108,28 +108,22 @@ public class SettingsUI {
             
             // Latency instructions
             g2d.setColor(Color.LIGHT_GRAY);
-            g2d.setFont(new Font("Arial", Font.PLAIN, 18));
-            drawCenteredString(g2d, "Use A/D or Q/E to adjust latency", 800, 520);
+            g2d.setFont(TextCache.font(Font.PLAIN, 18));
+            TextCache.drawCentered(g2d, "Use A/D or Q/E to adjust latency", 800, 520);
         }
         
         // Reset data option
         g2d.setColor(Color.RED);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 20));
-        drawCenteredString(g2d, "Press R to RESET ALL DATA", 800, 560);
+        g2d.setFont(TextCache.font(Font.PLAIN, 20));
+        TextCache.drawCentered(g2d, "Press R to RESET ALL DATA", 800, 560);
         g2d.setColor(Color.GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
-        drawCenteredString(g2d, "(This will delete all progress and upgrades)", 800, 585);
+        g2d.setFont(TextCache.font(Font.PLAIN, 14));
+        TextCache.drawCentered(g2d, "(This will delete all progress and upgrades)", 800, 585);
         
         // Back to menu
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
-        drawCenteredString(g2d, "Press ESC to return to menu", 800, 595);
-    }
-    
-    private void drawCenteredString(Graphics2D g2d, String text, int width, int y) {
-        FontMetrics fm = g2d.getFontMetrics();
-        int x = (width - fm.stringWidth(text)) / 2;
-        g2d.drawString(text, x, y);
+        g2d.setFont(TextCache.font(Font.PLAIN, 16));
+        TextCache.drawCentered(g2d, "Press ESC to return to menu", 800, 595);
     }
 }
 
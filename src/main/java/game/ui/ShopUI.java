@@ -15,20 +15,20 @@ public class ShopUI {
         
         // Title
         g2d.setColor(Color.YELLOW);
-        g2d.setFont(new Font("Arial", Font.BOLD, 36));
-        drawCenteredString(g2d, "UPGRADE SHOP", 800, 50);
+        g2d.setFont(TextCache.font(Font.BOLD, 36));
+        TextCache.drawCentered(g2d, "UPGRADE SHOP", 800, 50);
         
         // Coins display
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 20));
-        drawCenteredString(g2d, "Coins: " + engine.getPlayer().getCoins(), 800, 100);
+        g2d.setFont(TextCache.font(Font.PLAIN, 20));
+        TextCache.drawCentered(g2d, "Coins: " + engine.getPlayer().getCoins(), 800, 100);
         
         // Upgrade options
         UpgradeManager um = engine.getUpgradeManager();
         int y = 140;
         int spacing = 50;
         
-        g2d.setFont(new Font("Arial", Font.PLAIN, 18));
+        g2d.setFont(TextCache.font(Font.PLAIN, 18));
         
         drawUpgradeOption(g2d, "1. Fire Rate (Lvl " + um.getFireRateLevel() + ")", 
                          um.getTempUpgradeCost(UpgradeManager.UpgradeType.FIRE_RATE, um.getTempLevel(UpgradeManager.UpgradeType.FIRE_RATE)), 
@@ -64,21 +64,15 @@ public class ShopUI {
         
         // Instructions
         g2d.setColor(Color.LIGHT_GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
-        drawCenteredString(g2d, "Press number key to purchase upgrade (costs scale with level)", 800, 500);
-        drawCenteredString(g2d, "Press SPACE to continue to next wave", 800, 550);
+        g2d.setFont(TextCache.font(Font.PLAIN, 16));
+        TextCache.drawCentered(g2d, "Press number key to purchase upgrade (costs scale with level)", 800, 500);
+        TextCache.drawCentered(g2d, "Press SPACE to continue to next wave", 800, 550);
     }
     
     private void drawUpgradeOption(Graphics2D g2d, String text, int cost, int y) {
         g2d.setColor(Color.WHITE);
-        g2d.drawString(text, 200, y);
+        TextCache.draw(g2d, text, 200, y);
         g2d.setColor(Color.YELLOW);
-        g2d.drawString("Cost: " + cost + " coins", 500, y);
-    }
-    
-    private void drawCenteredString(Graphics2D g2d, String text, int width, int y) {
-        FontMetrics fm = g2d.getFontMetrics();
-        int x = (width - fm.stringWidth(text)) / 2;
-        g2d.drawString(text, x, y);
+        TextCache.draw(g2d, "Cost: " + cost + " coins", 500, y);
     }
 }
@@ -0,0 +1,124 @@
+package game.ui;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shared font registry and text layout cache for all UI screens.
+ * Fonts are created once per style/size, and every string drawn is shaped into a
+ * GlyphVector once per font, so static labels are never re-shaped or re-measured.
+ *
+ * Layouts live in a small LRU per font; dynamic strings (coins, wave, damage numbers)
+ * simply cycle through it. Draws use the Graphics2D's current font and color.
+ */
+public final class TextCache {
+    private static final String FAMILY = "Arial";
+    private static final int MAX_SIZE = 128;
+    private static final int LAYOUTS_PER_FONT = 256;
+
+    // fonts[style][size] for the plain/bold/italic/bold-italic styles
+    private static final Font[][] fonts = new Font[4][MAX_SIZE + 1];
+    private static final Map<Font, LayoutCache> layouts = new HashMap<>();
+
+    private TextCache() {}
+
+    /**
+     * Shared Arial font of the given style and point size.
+     */
+    public static Font font(int style, int size) {
+        if (size < 0 || size > MAX_SIZE || style < 0 || style > 3) {
+            return new Font(FAMILY, style, size);
+        }
+        synchronized (fonts) {
+            Font font = fonts[style][size];
+            if (font == null) {
+                font = new Font(FAMILY, style, size);
+                fonts[style][size] = font;
+            }
+            return font;
+        }
+    }
+
+    /**
+     * Draw text with its baseline at (x, y), like Graphics2D.drawString.
+     */
+    public static void draw(Graphics2D g2d, String text, int x, int y) {
+        g2d.drawGlyphVector(layout(g2d, text).glyphs, x, y);
+    }
+
+    /**
+     * Draw text centered horizontally across [0, width).
+     */
+    public static void drawCentered(Graphics2D g2d, String text, int width, int y) {
+        drawCentered(g2d, text, 0, width, y);
+    }
+
+    /**
+     * Draw text centered horizontally in the box [boxX, boxX + boxWidth).
+     */
+    public static void drawCentered(Graphics2D g2d, String text, int boxX, int boxWidth, int y) {
+        Layout layout = layout(g2d, text);
+        g2d.drawGlyphVector(layout.glyphs, boxX + (boxWidth - layout.width) / 2, y);
+    }
+
+    /**
+     * Advance width of text in the current font, from the cached layout.
+     */
+    public static int stringWidth(Graphics2D g2d, String text) {
+        return layout(g2d, text).width;
+    }
+
+    private static Layout layout(Graphics2D g2d, String text) {
+        Font font = g2d.getFont();
+        FontRenderContext frc = g2d.getFontRenderContext();
+        synchronized (layouts) {
+            LayoutCache cache = layouts.get(font);
+            if (cache == null) {
+                cache = new LayoutCache();
+                layouts.put(font, cache);
+            }
+            Layout layout = cache.get(text);
+            // Re-shape if the rendering hints changed since the layout was made
+            if (layout == null || !layout.frc.equals(frc)) {
+                layout = new Layout(font.createGlyphVector(frc, text), frc);
+                cache.put(text, layout);
+            }
+            return layout;
+        }
+    }
+
+    /**
+     * Shaped string plus its measured width.
+     */
+    private static final class Layout {
+        final GlyphVector glyphs;
+        final FontRenderContext frc;
+        final int width;
+
+        Layout(GlyphVector glyphs, FontRenderContext frc) {
+            this.glyphs = glyphs;
+            this.frc = frc;
+            this.width = (int) Math.round(glyphs.getLogicalBounds().getWidth());
+        }
+    }
+
+    /**
+     * Access-ordered LRU of layouts for one font.
+     */
+    private static final class LayoutCache extends LinkedHashMap<String, Layout> {
+        private static final long serialVersionUID = 1L;
+
+        LayoutCache() {
+            super(64, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Layout> eldest) {
+            return size() > LAYOUTS_PER_FONT;
+        }
+    }
+}
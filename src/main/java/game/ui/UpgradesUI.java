@@ -16,23 +16,23 @@ public class UpgradesUI {
         
         // Title
         g2d.setColor(Color.YELLOW);
-        g2d.setFont(new Font("Arial", Font.BOLD, 36));
-        drawCenteredString(g2d, "PERMANENT UPGRADES", 800, 50);
+        g2d.setFont(TextCache.font(Font.BOLD, 36));
+        TextCache.drawCentered(g2d, "PERMANENT UPGRADES", 800, 50);
         
         // Cash display (load from save)
         GameData data = engine.getSaveManager().loadGame();
         int cash = data != null ? data.getCash() : 0;
         
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 20));
-        drawCenteredString(g2d, "Cash: $" + cash, 800, 100);
+        g2d.setFont(TextCache.font(Font.PLAIN, 20));
+        TextCache.drawCentered(g2d, "Cash: $" + cash, 800, 100);
         
         // Upgrade options
         UpgradeManager um = engine.getUpgradeManager();
         int y = 130;
         int spacing = 55;
         
-        g2d.setFont(new Font("Arial", Font.PLAIN, 18));
+        g2d.setFont(TextCache.font(Font.PLAIN, 18));
         
         drawPermanentUpgrade(g2d, "1. Fire Rate", 
                             um.getPermanentLevel(UpgradeManager.UpgradeType.FIRE_RATE),
@@ -92,9 +92,9 @@ public class UpgradesUI {
         
         // Instructions
         g2d.setColor(Color.LIGHT_GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
-        drawCenteredString(g2d, "Press number key (1-8) to purchase permanent upgrade", 800, 540);
-        drawCenteredString(g2d, "Press ESC to return to menu", 800, 570);
+        g2d.setFont(TextCache.font(Font.PLAIN, 16));
+        TextCache.drawCentered(g2d, "Press number key (1-8) to purchase permanent upgrade", 800, 540);
+        TextCache.drawCentered(g2d, "Press ESC to return to menu", 800, 570);
     }
     
     private void drawPermanentUpgrade(Graphics2D g2d, String name, int permLevel, int tempLevel, int cost, String statCalc, int cash, int y) {
@@ -107,22 +107,16 @@ public class UpgradesUI {
             levelText += " + Coins: " + tempLevel;
         }
         levelText += "]";
-        g2d.drawString(name + " " + levelText, 50, y);
+        TextCache.draw(g2d, name + " " + levelText, 50, y);
         
         // Cost
         g2d.setColor(canAfford ? Color.GREEN : Color.RED);
-        g2d.drawString("$" + cost, 720, y);
+        TextCache.draw(g2d, "$" + cost, 720, y);
         
         // Stat calculation (smaller font, gray)
         g2d.setColor(Color.LIGHT_GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
-        g2d.drawString(statCalc, 70, y + 15);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 18)); // Reset font
-    }
-    
-    private void drawCenteredString(Graphics2D g2d, String text, int width, int y) {
-        FontMetrics fm = g2d.getFontMetrics();
-        int x = (width - fm.stringWidth(text)) / 2;
-        g2d.drawString(text, x, y);
+        g2d.setFont(TextCache.font(Font.PLAIN, 14));
+        TextCache.draw(g2d, statCalc, 70, y + 15);
+        g2d.setFont(TextCache.font(Font.PLAIN, 18)); // Reset font
     }
 }